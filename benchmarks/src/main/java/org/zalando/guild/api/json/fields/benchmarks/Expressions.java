@@ -0,0 +1,31 @@
+package org.zalando.guild.api.json.fields.benchmarks;
+
+/**
+ * Generates fields expressions of a given size for the benchmarks.
+ *
+ * @since  17.10.2026
+ */
+final class Expressions {
+
+    /**
+     * Return an expression with the supplied number of fields, where every fifth field is qualified with a nested
+     * field set of two fields, e.g. {@code (field0(sub0,sub1),field1,field2,...)}.
+     */
+    static String expressionWithFields(final int fieldCount) {
+        final StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            sb.append("field").append(i);
+            if (i % 5 == 0) {
+                sb.append("(sub").append(i).append(",other").append(i).append(')');
+            }
+        }
+
+        return sb.append(')').toString();
+    }
+
+    private Expressions() { }
+}
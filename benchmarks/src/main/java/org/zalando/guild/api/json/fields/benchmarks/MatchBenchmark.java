@@ -0,0 +1,95 @@
+package org.zalando.guild.api.json.fields.benchmarks;
+
+import static java.util.Arrays.asList;
+
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+/**
+ * Measures {@link FieldPredicate#apply(List)} and the equivalent {@link FieldMatcher} steps on shallow and deep field
+ * hierarchies, for plain predicate trees and compiled predicates.
+ *
+ * @since  17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchBenchmark {
+
+    private static final int WIDTH = 60;
+    private static final int DEPTH = 8;
+
+    @Param({ "shallow", "deep" })
+    private String hierarchy;
+
+    @Param({ "false", "true" })
+    private boolean compiled;
+
+    private FieldPredicate predicate;
+    private FieldMatcher matcher;
+    private List<String> fields;
+
+    @Setup
+    public void setUp() {
+
+        // (field0,...,field59,level0(level1(...(level7)))), as the parser's visitor would build it
+        final FieldPredicate[] more = new FieldPredicate[WIDTH];
+        for (int i = 0; i < WIDTH; i++) {
+            more[i] = matchIndex(0, "field" + i);
+        }
+
+        final FieldPredicate tree = or(deepPath(0), more);
+        predicate = compiled ? FieldPredicates.compile(tree) : tree;
+        matcher = FieldMatchers.matcher(predicate);
+
+        if ("shallow".equals(hierarchy)) {
+            fields = asList("field" + (WIDTH - 1));
+        } else {
+            fields = asList("level0", "level1", "level2", "level3", "level4", "level5", "level6", "level7");
+        }
+    }
+
+    private static FieldPredicate deepPath(final int level) {
+        final FieldPredicate match = matchIndex(level, "level" + level);
+        return level == DEPTH - 1 ? match : and(match, deepPath(level + 1));
+    }
+
+    @Benchmark
+    public boolean apply() {
+        return predicate.apply(fields);
+    }
+
+    @Benchmark
+    public boolean descend() {
+        FieldMatcher current = matcher;
+        for (int i = 0; i < fields.size(); i++) {
+            current = current.descend(fields.get(i));
+        }
+
+        return current.matches();
+    }
+}
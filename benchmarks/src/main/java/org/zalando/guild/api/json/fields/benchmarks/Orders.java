@@ -0,0 +1,221 @@
+package org.zalando.guild.api.json.fields.benchmarks;
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A realistic, nested bean model for the serialization benchmarks.
+ *
+ * @since  17.10.2026
+ */
+public final class Orders {
+
+    /**
+     * Create an order with the supplied number of order lines.
+     */
+    public static Order order(final int lineCount) {
+        final Address address = new Address("Tamara-Danz-Str. 1", "Berlin", "10243", "DE");
+        final Customer customer = new Customer("c-4711", "Jane Doe", "jane.doe@example.com", address);
+        final List<OrderLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            attributes.put("color", i % 2 == 0 ? "black" : "white");
+            attributes.put("size", String.valueOf(36 + (i % 10)));
+            attributes.put("material", "cotton");
+
+            final Product product = new Product("Product " + i, "A rather lengthy description of product " + i,
+                    "Brand " + (i % 7), attributes);
+            lines.add(new OrderLine("SKU-" + i, 1 + (i % 3), new Price(new BigDecimal("19.95"), "EUR"), product));
+        }
+
+        return new Order("o-" + lineCount, "SHIPPED", "2015-09-23T12:00:00Z", customer, address, lines);
+    }
+
+    private Orders() { }
+
+    public static class Order {
+        private final String id;
+        private final String status;
+        private final String createdAt;
+        private final Customer customer;
+        private final Address shippingAddress;
+        private final List<OrderLine> lines;
+
+        public Order(final String id, final String status, final String createdAt, final Customer customer,
+                final Address shippingAddress, final List<OrderLine> lines) {
+            this.id = id;
+            this.status = status;
+            this.createdAt = createdAt;
+            this.customer = customer;
+            this.shippingAddress = shippingAddress;
+            this.lines = lines;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getCreatedAt() {
+            return createdAt;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public Address getShippingAddress() {
+            return shippingAddress;
+        }
+
+        public List<OrderLine> getLines() {
+            return lines;
+        }
+    }
+
+    public static class Customer {
+        private final String id;
+        private final String name;
+        private final String email;
+        private final Address address;
+
+        public Customer(final String id, final String name, final String email, final Address address) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.address = address;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+        private final String street;
+        private final String city;
+        private final String zip;
+        private final String country;
+
+        public Address(final String street, final String city, final String zip, final String country) {
+            this.street = street;
+            this.city = city;
+            this.zip = zip;
+            this.country = country;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+    }
+
+    public static class OrderLine {
+        private final String sku;
+        private final int quantity;
+        private final Price price;
+        private final Product product;
+
+        public OrderLine(final String sku, final int quantity, final Price price, final Product product) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.price = price;
+            this.product = product;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public Price getPrice() {
+            return price;
+        }
+
+        public Product getProduct() {
+            return product;
+        }
+    }
+
+    public static class Price {
+        private final BigDecimal amount;
+        private final String currency;
+
+        public Price(final BigDecimal amount, final String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    public static class Product {
+        private final String name;
+        private final String description;
+        private final String brand;
+        private final Map<String, String> attributes;
+
+        public Product(final String name, final String description, final String brand,
+                final Map<String, String> attributes) {
+            this.name = name;
+            this.description = description;
+            this.brand = brand;
+            this.attributes = attributes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.zalando.guild.api.json.fields.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.zalando.guild.api.json.fields.java.expression.ParserEngine;
+import org.zalando.guild.api.json.fields.java.expression.ParserFramework;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+/**
+ * Measures {@link ParserFramework#parseFieldsExpression(String, ParserEngine)} for expressions of different sizes.
+ *
+ * @since  17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({ "1", "10", "60" })
+    private int fieldCount;
+
+    @Param({ "ANTLR", "RECURSIVE_DESCENT" })
+    private ParserEngine engine;
+
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        expression = Expressions.expressionWithFields(fieldCount);
+    }
+
+    @Benchmark
+    public FieldPredicate parseFieldsExpression() {
+        return ParserFramework.parseFieldsExpression(expression, engine);
+    }
+}
@@ -0,0 +1,106 @@
+package org.zalando.guild.api.json.fields.benchmarks;
+
+import static org.zalando.guild.api.json.fields.jackson.JsonFieldsModule.createJsonFieldsModule;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.zalando.guild.api.json.fields.jackson.FilteringMode;
+import org.zalando.guild.api.json.fields.jackson.ThreadLocalContextProvider;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Supplier;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Measures end-to-end serialization of a nested order with the {@code JsonFieldsModule}, against a plain
+ * {@link ObjectMapper}. The difference is the filtering overhead per response.
+ *
+ * @since  17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    /**
+     * No expression, i.e. everything is rendered.
+     */
+    private static final String NONE = "none";
+
+    /**
+     * Expressions: none (the unfiltered fast path), a deep whitelist, a blacklist, and a whitelist of whole subtrees,
+     * which are serialized without filtering below the first level.
+     */
+    @Param(
+        {
+            NONE, "(id,status,customer(name),lines(sku,quantity,price))", "!(createdAt,shippingAddress,customer)",
+            "(id,customer,lines)"
+        }
+    )
+    private String expression;
+
+    @Param({ "100" })
+    private int lineCount;
+
+    @Param
+    private FilteringMode filteringMode;
+
+    private final OutputStream out = ByteStreams.nullOutputStream();
+
+    private ObjectMapper plainObjectMapper;
+    private ObjectMapper jsonFieldsObjectMapper;
+    private Orders.Order order;
+
+    @Setup
+    public void setUp() {
+        final FieldPredicate predicate = NONE.equals(expression) ? FieldPredicates.alwaysTrue()
+                                                                 : parseFieldsExpressionOrFail(expression);
+        final Supplier<FieldPredicate> predicateSupplier = new Supplier<FieldPredicate>() {
+            @Nonnull
+            @Override
+            public FieldPredicate get() {
+                return predicate;
+            }
+        };
+
+        plainObjectMapper = new ObjectMapper();
+        jsonFieldsObjectMapper = new ObjectMapper();
+        jsonFieldsObjectMapper.registerModule(createJsonFieldsModule(predicateSupplier,
+                ThreadLocalContextProvider.getInstance(), filteringMode));
+        order = Orders.order(lineCount);
+    }
+
+    @Benchmark
+    public void plainObjectMapper() throws IOException {
+        plainObjectMapper.writeValue(out, order);
+    }
+
+    @Benchmark
+    public void jsonFieldsModule() throws IOException {
+        jsonFieldsObjectMapper.writeValue(out, order);
+    }
+}
@@ -0,0 +1,320 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Projects newline-delimited JSON documents (JSON lines) in parallel. The input is split into chunks of whole lines,
+ * which are projected by a {@link JsonProjection} on the supplied executor and written to the target channel in their
+ * original order. The number of chunks in flight is bounded, so the memory needed for buffered output doesn't depend
+ * on the size of the input.
+ *
+ * <p>Instances are immutable and thread safe. The executor is not shut down by the pipeline.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class JsonLinesPipeline {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The maximum number of bytes of a file mapped at once.
+     */
+    static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    private final JsonProjection projection;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final int segmentSize;
+
+    /**
+     * Create a pipeline with chunks of 1 MB and up to four pending chunks per available processor.
+     */
+    @Nonnull
+    public static JsonLinesPipeline jsonLinesPipeline(@Nonnull final JsonProjection projection,
+            @Nonnull final ExecutorService executor) {
+        return jsonLinesPipeline(projection, executor, DEFAULT_CHUNK_SIZE,
+                4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a pipeline that splits its input into chunks of roughly the supplied size (chunks are extended to the
+     * next line break) and keeps at most the supplied number of chunks pending at once.
+     */
+    @Nonnull
+    public static JsonLinesPipeline jsonLinesPipeline(@Nonnull final JsonProjection projection,
+            @Nonnull final ExecutorService executor, final int chunkSize, final int maxPendingChunks) {
+        return new JsonLinesPipeline(projection, executor, chunkSize, maxPendingChunks, MAX_SEGMENT_SIZE);
+    }
+
+    JsonLinesPipeline(final JsonProjection projection, final ExecutorService executor, final int chunkSize,
+            final int maxPendingChunks, final int segmentSize) {
+        this.projection = checkNotNull(projection, "Projection required");
+        this.executor = checkNotNull(executor, "Executor required");
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        checkArgument(maxPendingChunks > 0, "Maximum number of pending chunks must be positive");
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Project the remaining bytes of the source buffer to the target channel. The position of the source buffer is
+     * not changed, and the channel is not closed.
+     *
+     * @exception  IllegalArgumentException  if a record is not valid JSON
+     * @exception  IOException               if writing to the channel fails
+     * @exception  InterruptedException      if the calling thread is interrupted while waiting for a chunk
+     */
+    @Nonnull
+    public Result project(@Nonnull final ByteBuffer source, @Nonnull final WritableByteChannel target)
+        throws IOException, InterruptedException {
+        checkNotNull(source, "Source required");
+        checkNotNull(target, "Target required");
+
+        final long start = System.nanoTime();
+        final Counts counts = new Counts();
+        projectChunks(source, 0, target, counts);
+        return new Result(counts.records, source.remaining(), counts.bytesWritten, System.nanoTime() - start);
+    }
+
+    /**
+     * Project the remaining content of the source file, starting at its current position, to the target channel. The
+     * file is memory-mapped in segments of whole lines, so files larger than 2 GB are supported as long as no single
+     * line is larger than 1 GB. The channels are not closed.
+     *
+     * @exception  IllegalArgumentException  if a record is not valid JSON or too large
+     * @exception  IOException               if reading the file or writing to the channel fails
+     * @exception  InterruptedException      if the calling thread is interrupted while waiting for a chunk
+     */
+    @Nonnull
+    public Result project(@Nonnull final FileChannel source, @Nonnull final WritableByteChannel target)
+        throws IOException, InterruptedException {
+        checkNotNull(source, "Source required");
+        checkNotNull(target, "Target required");
+
+        final long start = System.nanoTime();
+        final Counts counts = new Counts();
+        final long first = source.position();
+        final long size = source.size();
+        long offset = first;
+        while (offset < size) {
+            final long length = Math.min(size - offset, segmentSize);
+            final ByteBuffer segment = source.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            if (offset + length < size) {
+                ((Buffer) segment).limit(lastLineEnd(segment));
+                checkArgument(segment.limit() > 0, "Line at offset %s is too large", offset);
+            }
+
+            projectChunks(segment, offset, target, counts);
+            offset += segment.limit();
+        }
+
+        return new Result(counts.records, size - first, counts.bytesWritten, System.nanoTime() - start);
+    }
+
+    private void projectChunks(final ByteBuffer source, final long offset, final WritableByteChannel target,
+            final Counts counts) throws IOException, InterruptedException {
+        final Deque<Future<Chunk>> pending = new ArrayDeque<>(maxPendingChunks);
+        try {
+            int chunkStart = source.position();
+            while (chunkStart < source.limit() || !pending.isEmpty()) {
+                if (chunkStart < source.limit() && pending.size() < maxPendingChunks) {
+                    final int chunkEnd = lineEnd(source,
+                            (int) Math.min(source.limit(), (long) chunkStart + chunkSize - 1));
+                    pending.addLast(executor.submit(new ChunkTask(source, chunkStart, chunkEnd,
+                                offset + chunkStart - source.position())));
+                    chunkStart = chunkEnd;
+                } else {
+                    pending.removeFirst().get().writeTo(target, counts);
+                }
+            }
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("Projection failed", cause);
+        } finally {
+            for (final Future<Chunk> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Return the position after the first line break at or after the supplied position, or the limit of the buffer if
+     * there is none.
+     */
+    private static int lineEnd(final ByteBuffer buffer, final int from) {
+        final int limit = buffer.limit();
+        for (int position = from; position < limit; position++) {
+            if (buffer.get(position) == '\n') {
+                return position + 1;
+            }
+        }
+
+        return limit;
+    }
+
+    /**
+     * Return the position after the last line break of the buffer, or 0 if there is none.
+     */
+    private static int lastLineEnd(final ByteBuffer buffer) {
+        for (int position = buffer.limit() - 1; position >= 0; position--) {
+            if (buffer.get(position) == '\n') {
+                return position + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonLinesPipeline(" + projection + ", chunkSize=" + chunkSize + ")";
+    }
+
+    /**
+     * The outcome of a pipeline run.
+     */
+    public static final class Result {
+        private final long records;
+        private final long bytesRead;
+        private final long bytesWritten;
+        private final long elapsedNanos;
+
+        Result(final long records, final long bytesRead, final long bytesWritten, final long elapsedNanos) {
+            this.records = records;
+            this.bytesRead = bytesRead;
+            this.bytesWritten = bytesWritten;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * The number of projected root-level values, i.e. the number of records.
+         */
+        public long getRecords() {
+            return records;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getRecordsPerSecond() {
+            return elapsedNanos == 0 ? 0 : records * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d records (%d bytes read, %d bytes written) in %d ms, %.0f records/sec", records,
+                    bytesRead, bytesWritten, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getRecordsPerSecond());
+        }
+    }
+
+    private static final class Counts {
+        long records;
+        long bytesWritten;
+    }
+
+    /**
+     * The projected content of a chunk.
+     */
+    private static final class Chunk {
+        private final int records;
+        private final byte[] bytes;
+        private final int length;
+
+        Chunk(final int records, final byte[] bytes, final int length) {
+            this.records = records;
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        void writeTo(final WritableByteChannel target, final Counts counts) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+
+            counts.records += records;
+            counts.bytesWritten += length;
+        }
+    }
+
+    private final class ChunkTask implements Callable<Chunk> {
+        private final ByteBuffer source;
+        private final long offset;
+
+        ChunkTask(final ByteBuffer source, final int start, final int end, final long offset) {
+            this.source = source.duplicate();
+
+            // cast, so that the call binds to Buffer.limit(int) even when compiled against JDK 9+
+            ((Buffer) this.source).limit(end).position(start);
+            this.offset = offset;
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            final ExposedByteArrayOutputStream out = new ExposedByteArrayOutputStream(source.remaining());
+            final RangeWriter writer = new RangeWriter(source, Channels.newChannel(out));
+            final int records;
+            try {
+                records = projection.projectAll(source, writer);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("%s (in the chunk at offset %d)", e.getMessage(),
+                        offset), e);
+            }
+
+            writer.finish();
+            return new Chunk(records, out.buffer(), out.size());
+        }
+    }
+
+    /**
+     * Gives access to the buffer, to avoid copying it.
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        ExposedByteArrayOutputStream(final int size) {
+            super(size);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+/**
+ * Projects UTF-8 encoded JSON documents onto the fields matched by a {@link FieldPredicate}, working directly on the
+ * bytes of a {@link ByteBuffer}. Retained parts of the input, including their whitespace, are written to the target
+ * channel as verbatim byte ranges; only field names are decoded. Array elements are filtered like the array itself, as
+ * in bean serialization.
+ *
+ * <p>The input is expected to be valid JSON. It is only validated as far as necessary to find the boundaries of
+ * values, so some malformed documents are copied instead of being rejected. All root-level values of the buffer are
+ * projected, and the whitespace between them is retained, so line-delimited documents stay line-delimited. Projected
+ * values may be nested at most {@value #MAX_DEPTH} levels deep.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class JsonProjection {
+
+    /**
+     * The maximum nesting depth of projected objects and arrays.
+     */
+    public static final int MAX_DEPTH = 1000;
+
+    private final FieldMatcher root;
+
+    /**
+     * Create a projection for the supplied predicate, which is compiled (see
+     * {@link FieldPredicates#compile(FieldPredicate)}) if possible.
+     */
+    @Nonnull
+    public static JsonProjection jsonProjection(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+        return new JsonProjection(FieldMatchers.matcher(FieldPredicates.compile(predicate)));
+    }
+
+    private JsonProjection(final FieldMatcher root) {
+        this.root = root;
+    }
+
+    /**
+     * Project the remaining bytes of the source buffer to the target channel and return the number of bytes written.
+     * The position of the source buffer is not changed, and the channel is not closed.
+     *
+     * @exception  IllegalArgumentException  if the source is not valid JSON, or a projected value is nested deeper
+     *                                       than {@link #MAX_DEPTH}
+     * @exception  IOException               if writing to the channel fails
+     */
+    public long project(@Nonnull final ByteBuffer source, @Nonnull final WritableByteChannel target)
+        throws IOException {
+        checkNotNull(source, "Source required");
+        checkNotNull(target, "Target required");
+
+        final RangeWriter writer = new RangeWriter(source, target);
+        projectAll(source, writer);
+        return writer.finish();
+    }
+
+    /**
+     * Project the remaining bytes of the source buffer to the supplied writer and return the number of root-level
+     * values.
+     */
+    int projectAll(final ByteBuffer source, final RangeWriter writer) throws IOException {
+        return new Projector(source, writer).projectAll(root);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonProjection(" + root + ")";
+    }
+
+    /**
+     * The state of a single projection.
+     */
+    private static final class Projector {
+        private final ByteBuffer source;
+        private final int limit;
+        private final RangeWriter writer;
+
+        Projector(final ByteBuffer source, final RangeWriter writer) {
+            this.source = source;
+            this.limit = source.limit();
+            this.writer = writer;
+        }
+
+        int projectAll(final FieldMatcher matcher) throws IOException {
+            int values = 0;
+            int position = source.position();
+            while (true) {
+                final int start = skipWhitespace(position);
+                writer.write(position, start);
+                if (start == limit) {
+                    return values;
+                }
+
+                position = projectValue(start, matcher, 0);
+                values++;
+            }
+        }
+
+        /**
+         * Write the projection of the value at the supplied position and return the position after the value.
+         */
+        private int projectValue(final int start, final FieldMatcher matcher, final int depth) throws IOException {
+            if (matcher == FieldMatchers.alwaysTrue()) {
+                final int end = skipValue(start);
+                writer.write(start, end);
+                return end;
+            }
+
+            final byte first = byteAt(start);
+            if ((first == '{' || first == '[') && depth == MAX_DEPTH) {
+                throw new IllegalArgumentException(String.format(
+                        "JSON nested deeper than %d levels at offset %d", MAX_DEPTH, start - source.position()));
+            }
+
+            if (first == '{') {
+                return projectObject(start, matcher, depth);
+            } else if (first == '[') {
+                return projectArray(start, matcher, depth);
+            }
+
+            final int end = skipValue(start);
+            writer.write(start, end);
+            return end;
+        }
+
+        private int projectObject(final int start, final FieldMatcher matcher, final int depth) throws IOException {
+            writer.write(start, start + 1);
+
+            // the end of the last written part, if nothing was excluded since, or -1 otherwise
+            int contiguousEnd = start + 1;
+            boolean empty = true;
+            int position = skipWhitespace(start + 1);
+            if (byteAt(position) != '}') {
+                while (true) {
+                    final int nameStart = position;
+                    final int nameEnd = skipString(nameStart);
+                    final int colon = skipWhitespace(nameEnd);
+                    expect(colon, ':');
+
+                    final int valueStart = skipWhitespace(colon + 1);
+                    final FieldMatcher child = matcher.descend(decodeString(nameStart, nameEnd));
+                    final int valueEnd;
+                    if (child.matches()) {
+                        if (contiguousEnd >= 0) {
+                            writer.write(contiguousEnd, nameStart);
+                        } else if (!empty) {
+                            writer.write((byte) ',');
+                        }
+
+                        writer.write(nameStart, valueStart);
+                        valueEnd = projectValue(valueStart, child, depth + 1);
+                        contiguousEnd = valueEnd;
+                        empty = false;
+                    } else {
+                        valueEnd = skipValue(valueStart);
+                        contiguousEnd = -1;
+                    }
+
+                    position = skipWhitespace(valueEnd);
+                    if (byteAt(position) == ',') {
+                        position = skipWhitespace(position + 1);
+                    } else {
+                        break;
+                    }
+                }
+            }
+
+            expect(position, '}');
+            writer.write(contiguousEnd >= 0 ? contiguousEnd : position, position + 1);
+            return position + 1;
+        }
+
+        private int projectArray(final int start, final FieldMatcher matcher, final int depth) throws IOException {
+            int position;
+            int elementStart = skipWhitespace(start + 1);
+            writer.write(start, elementStart);
+            if (byteAt(elementStart) == ']') {
+                writer.write(elementStart, elementStart + 1);
+                return elementStart + 1;
+            }
+
+            while (true) {
+                final int elementEnd = projectValue(elementStart, matcher, depth + 1);
+                position = skipWhitespace(elementEnd);
+                if (byteAt(position) == ']') {
+                    writer.write(elementEnd, position + 1);
+                    return position + 1;
+                }
+
+                expect(position, ',');
+                elementStart = skipWhitespace(position + 1);
+                writer.write(elementEnd, elementStart);
+            }
+        }
+
+        /**
+         * Return the position after the value at the supplied position.
+         */
+        private int skipValue(final int start) {
+            final byte first = byteAt(start);
+            if (first == '"') {
+                return skipString(start);
+            } else if (first != '{' && first != '[') {
+                return skipScalar(start);
+            }
+
+            int depth = 0;
+            int position = start;
+            do {
+                final byte b = byteAt(position);
+                if (b == '"') {
+                    position = skipString(position);
+                    continue;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+
+                position++;
+            } while (depth > 0);
+
+            return position;
+        }
+
+        private int skipScalar(final int start) {
+            int position = start;
+            while (position < limit) {
+                final byte b = source.get(position);
+                if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                    break;
+                }
+
+                position++;
+            }
+
+            if (position == start) {
+                throw malformed(start, "value");
+            }
+
+            return position;
+        }
+
+        /**
+         * Return the position after the string starting at the supplied position.
+         */
+        private int skipString(final int start) {
+            expect(start, '"');
+
+            int position = start + 1;
+            while (true) {
+                final byte b = byteAt(position);
+                if (b == '"') {
+                    return position + 1;
+                } else if (b == '\\') {
+                    position += 2;
+                } else {
+                    position++;
+                }
+            }
+        }
+
+        private String decodeString(final int start, final int end) {
+            final int length = end - start - 2;
+            final byte[] bytes = new byte[length];
+            boolean escaped = false;
+            for (int i = 0; i < length; i++) {
+                bytes[i] = source.get(start + 1 + i);
+                escaped |= bytes[i] == '\\';
+            }
+
+            final String raw = new String(bytes, StandardCharsets.UTF_8);
+            return escaped ? unescape(raw, start) : raw;
+        }
+
+        private String unescape(final String raw, final int start) {
+            final StringBuilder sb = new StringBuilder(raw.length());
+            for (int i = 0; i < raw.length(); i++) {
+                final char c = raw.charAt(i);
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+
+                final char escape = raw.charAt(++i);
+                switch (escape) {
+
+                    case 'b' :
+                        sb.append('\b');
+                        break;
+
+                    case 'f' :
+                        sb.append('\f');
+                        break;
+
+                    case 'n' :
+                        sb.append('\n');
+                        break;
+
+                    case 'r' :
+                        sb.append('\r');
+                        break;
+
+                    case 't' :
+                        sb.append('\t');
+                        break;
+
+                    case 'u' :
+                        if (i + 4 >= raw.length()) {
+                            throw malformed(start, "unicode escape");
+                        }
+
+                        try {
+                            sb.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        } catch (NumberFormatException e) {
+                            throw malformed(start, "unicode escape");
+                        }
+
+                        i += 4;
+                        break;
+
+                    default :
+                        sb.append(escape);
+                }
+            }
+
+            return sb.toString();
+        }
+
+        private int skipWhitespace(final int start) {
+            int position = start;
+            while (position < limit && isWhitespace(source.get(position))) {
+                position++;
+            }
+
+            return position;
+        }
+
+        private static boolean isWhitespace(final byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+
+        private void expect(final int position, final char expected) {
+            if (byteAt(position) != expected) {
+                throw malformed(position, "'" + expected + "'");
+            }
+        }
+
+        private byte byteAt(final int position) {
+            if (position >= limit) {
+                throw malformed(position, "more input");
+            }
+
+            return source.get(position);
+        }
+
+        private IllegalArgumentException malformed(final int position, final String expected) {
+            return new IllegalArgumentException(String.format("Malformed JSON: expected %s at offset %d", expected,
+                        position - source.position()));
+        }
+    }
+}
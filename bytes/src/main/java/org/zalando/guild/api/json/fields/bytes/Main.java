@@ -0,0 +1,45 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static java.lang.System.err;
+
+import static org.zalando.guild.api.json.fields.bytes.JsonLinesPipeline.jsonLinesPipeline;
+import static org.zalando.guild.api.json.fields.bytes.JsonProjection.jsonProjection;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Entry point for projecting newline-delimited JSON files. Pass in a fields expression, an input file and optionally
+ * an output file (standard output is used otherwise). The records are projected in parallel on all available
+ * processors, and the throughput is reported on standard error.
+ *
+ * @since  17.10.2026
+ */
+public final class Main {
+    public static void main(final String... args) throws IOException, InterruptedException {
+        if (args.length < 2 || args.length > 3) {
+            err.println("Usage: Main <expression> <input file> [<output file>]");
+            System.exit(1);
+        }
+
+        final ForkJoinPool executor = new ForkJoinPool();
+        final JsonLinesPipeline pipeline = jsonLinesPipeline(jsonProjection(parseFieldsExpressionOrFail(args[0])),
+                executor);
+        try(FileChannel input = FileChannel.open(Paths.get(args[1]), StandardOpenOption.READ);
+                WritableByteChannel output = args.length == 3 ? new FileOutputStream(args[2]).getChannel()
+                                                              : Channels.newChannel(System.out)) {
+            err.println("Projected " + pipeline.project(input, output));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
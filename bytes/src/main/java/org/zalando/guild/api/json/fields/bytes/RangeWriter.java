@@ -0,0 +1,99 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import java.io.IOException;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes byte ranges of a source buffer to a channel. Adjacent ranges are merged, short ranges are collected in a
+ * staging buffer, and long ranges are written directly from the source buffer, without copying them.
+ *
+ * @since  17.10.2026
+ */
+final class RangeWriter {
+
+    static final int STAGING_CAPACITY = 8192;
+
+    private final ByteBuffer source;
+    private final WritableByteChannel target;
+    private final ByteBuffer staging = ByteBuffer.allocate(STAGING_CAPACITY);
+
+    private int pendingStart;
+    private int pendingEnd;
+    private long written;
+
+    RangeWriter(final ByteBuffer source, final WritableByteChannel target) {
+        this.source = source.duplicate();
+        this.target = target;
+    }
+
+    /**
+     * Write the bytes of the source buffer from start (inclusive) to end (exclusive).
+     */
+    void write(final int start, final int end) throws IOException {
+        if (start == end) {
+            return;
+        } else if (start == pendingEnd) {
+            pendingEnd = end;
+            return;
+        }
+
+        flushPending();
+        pendingStart = start;
+        pendingEnd = end;
+    }
+
+    /**
+     * Write a single byte that doesn't appear at the right position of the source buffer.
+     */
+    void write(final byte b) throws IOException {
+        flushPending();
+        if (!staging.hasRemaining()) {
+            flushStaging();
+        }
+
+        staging.put(b);
+    }
+
+    /**
+     * Write everything and return the number of bytes written in total.
+     */
+    long finish() throws IOException {
+        flushPending();
+        flushStaging();
+        return written;
+    }
+
+    private void flushPending() throws IOException {
+        final int length = pendingEnd - pendingStart;
+        if (length == 0) {
+            return;
+        }
+
+        // the Buffer casts keep the bytecode compatible with Java 7 when compiled on JDK 9+, where ByteBuffer overrides
+        // these methods with covariant return types
+        ((Buffer) source).clear().position(pendingStart).limit(pendingEnd);
+        if (length <= staging.remaining()) {
+            staging.put(source);
+        } else {
+            flushStaging();
+            writeFully(source);
+        }
+
+        pendingStart = pendingEnd;
+    }
+
+    private void flushStaging() throws IOException {
+        ((Buffer) staging).flip();
+        writeFully(staging);
+        ((Buffer) staging).clear();
+    }
+
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            written += target.write(buffer);
+        }
+    }
+}
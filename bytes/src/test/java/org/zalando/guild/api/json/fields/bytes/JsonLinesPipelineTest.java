@@ -0,0 +1,122 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.bytes.JsonLinesPipeline.jsonLinesPipeline;
+import static org.zalando.guild.api.json.fields.bytes.JsonProjection.jsonProjection;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @since  17.10.2026
+ */
+public class JsonLinesPipelineTest {
+
+    private static final JsonProjection PROJECTION = jsonProjection(parseFieldsExpressionOrFail("(id,lines(sku))"));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void outputIsOrdered() throws Exception {
+        final String input = records(1000);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonLinesPipeline.Result result = jsonLinesPipeline(PROJECTION, executor, 64, 3).project(ByteBuffer.wrap(
+                    input.getBytes(StandardCharsets.UTF_8)), Channels.newChannel(out));
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is(sequential(input)));
+        assertThat(result.getRecords(), is(1000L));
+        assertThat(result.getBytesRead(), is((long) input.length()));
+        assertThat(result.getBytesWritten(), is((long) out.size()));
+    }
+
+    @Test
+    public void lastLineWithoutLineBreak() throws Exception {
+        final String input = "{\"id\":1,\"x\":1}\n\n{\"id\":2,\"x\":2}";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonLinesPipeline.Result result = jsonLinesPipeline(PROJECTION, executor, 1, 1).project(ByteBuffer.wrap(
+                    input.getBytes(StandardCharsets.UTF_8)), Channels.newChannel(out));
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is("{\"id\":1}\n\n{\"id\":2}"));
+        assertThat(result.getRecords(), is(2L));
+    }
+
+    @Test
+    public void filesAreMappedInSegments() throws Exception {
+        final String input = records(100);
+        final File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), input.getBytes(StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final JsonLinesPipeline.Result result = new JsonLinesPipeline(PROJECTION, executor, 100, 2, 500).project(
+                    channel, Channels.newChannel(out));
+            assertThat(result.getRecords(), is(100L));
+            assertThat(result.getBytesRead(), is((long) input.length()));
+        }
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is(sequential(input)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void linesMustFitIntoSegments() throws Exception {
+        final File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), records(10).getBytes(StandardCharsets.UTF_8));
+
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            new JsonLinesPipeline(PROJECTION, executor, 100, 2, 10).project(channel,
+                Channels.newChannel(new ByteArrayOutputStream()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformedRecord() throws Exception {
+        final String input = records(100) + "{\"id\":\n" + records(100);
+        jsonLinesPipeline(PROJECTION, executor, 64, 3).project(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)),
+            Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    private static String records(final int count) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"record ").append(i).append("\",\"lines\":[{\"sku\":\"")
+              .append(i).append("\",\"quantity\":").append(i % 7).append("}]}\n");
+        }
+
+        return sb.toString();
+    }
+
+    private static String sequential(final String input) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PROJECTION.project(ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8)), Channels.newChannel(out));
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.bytes.JsonProjection.jsonProjection;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.base.Strings;
+
+/**
+ * @since  17.10.2026
+ */
+public class JsonProjectionTest {
+
+    private static final String JSON = "{\"id\":1,\"name\":\"foo\",\"price\":{\"amount\":12.50,\"currency\":\"EUR\"},"
+            + "\"lines\":[{\"sku\":\"a\",\"quantity\":1},{\"sku\":\"b\",\"quantity\":2}],\"empty\":null}";
+
+    @Test
+    public void whitelist() throws IOException {
+        assertThat(project("(id,price(amount),lines(sku))", JSON),
+            is("{\"id\":1,\"price\":{\"amount\":12.50},\"lines\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]}"));
+        assertThat(project("(empty,name)", JSON), is("{\"name\":\"foo\",\"empty\":null}"));
+    }
+
+    @Test
+    public void blacklist() throws IOException {
+        assertThat(project("!(name,price,lines,empty)", JSON), is("{\"id\":1}"));
+        assertThat(project("!(id,lines(quantity))", JSON),
+            is("{\"name\":\"foo\",\"price\":{\"amount\":12.50,\"currency\":\"EUR\"},\"empty\":null}"));
+    }
+
+    @Test
+    public void constants() throws IOException {
+        assertThat(project(alwaysTrue(), JSON), is(JSON));
+        assertThat(project(alwaysFalse(), JSON), is("{}"));
+    }
+
+    @Test
+    public void uncompiledPredicates() throws IOException {
+        assertThat(project(matchIndex(1, "sku"), JSON),
+            is("{\"id\":1,\"name\":\"foo\",\"price\":{},\"lines\":[{\"sku\":\"a\"},{\"sku\":\"b\"}],"
+                + "\"empty\":null}"));
+    }
+
+    @Test
+    public void whitespaceIsRetained() throws IOException {
+        final String json = "{\n  \"id\" : 1,\n  \"name\" : \"foo\" ,\n  \"tags\" : [ \"a\" , \"b\" ]\n}";
+
+        assertThat(project("(id,tags)", json), is("{\n  \"id\" : 1,\"tags\" : [ \"a\" , \"b\" ]\n}"));
+        assertThat(project("(name)", json), is("{\"name\" : \"foo\"}"));
+        assertThat(project("(id,name)", json), is("{\n  \"id\" : 1,\n  \"name\" : \"foo\"}"));
+        assertThat(project("!(phleem)", json), is(json));
+        assertThat(project("(phleem)", " { } "), is(" { } "));
+    }
+
+    @Test
+    public void stringsAndEscapes() throws IOException {
+        final String json = "{\"a\\\"b\":\"}{][,\",\"caf\\u00e9\":\"\\\"\",\"x\":[\"]\",{\"y\":\"\\\\\"}]}";
+
+        assertThat(project("(x(y))", json), is("{\"x\":[\"]\",{\"y\":\"\\\\\"}]}"));
+        assertThat(project("!(x)", json), is("{\"a\\\"b\":\"}{][,\",\"caf\\u00e9\":\"\\\"\"}"));
+    }
+
+    @Test
+    public void nonAsciiFieldNames() throws IOException {
+        final String json = "{\"caf\u00e9\":1,\"tea\":2}";
+        final FieldPredicate predicate = matchIndex(0, "caf\u00e9");
+
+        assertThat(project(predicate, json), is("{\"caf\u00e9\":1}"));
+    }
+
+    @Test
+    public void rootLevelValues() throws IOException {
+        assertThat(project("(id)", "{\"id\":1,\"name\":\"a\"}\n{\"id\":2}\n[{\"id\":3,\"x\":true}] 42\n"),
+            is("{\"id\":1}\n{\"id\":2}\n[{\"id\":3}] 42\n"));
+    }
+
+    @Test
+    public void sourcePositionIsRespectedAndUnchanged() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(("garbage" + JSON).getBytes(StandardCharsets.UTF_8));
+        buffer.position("garbage".length());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long written = jsonProjection(parseFieldsExpressionOrFail("(id)")).project(buffer, Channels.newChannel(
+                    out));
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is("{\"id\":1}"));
+        assertThat(written, is((long) out.size()));
+        assertThat(buffer.position(), is("garbage".length()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unterminatedObject() throws IOException {
+        project("(id)", "{\"id\":1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingColon() throws IOException {
+        project("(id)", "{\"id\" 1}");
+    }
+
+    @Test
+    public void maximumDepth() throws IOException {
+        final String json = nestedArrays(JsonProjection.MAX_DEPTH);
+        assertThat(project("!(foo)", json), is(json));
+        assertThat(project(alwaysTrue(), nestedArrays(JsonProjection.MAX_DEPTH + 1)),
+            is(nestedArrays(JsonProjection.MAX_DEPTH + 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void excessiveDepthIsRejected() throws IOException {
+        project("!(foo)", nestedArrays(JsonProjection.MAX_DEPTH + 1));
+    }
+
+    private static String nestedArrays(final int depth) {
+        return Strings.repeat("[", depth) + Strings.repeat("]", depth);
+    }
+
+    private static String project(final String expression, final String json) throws IOException {
+        return project(parseFieldsExpressionOrFail(expression), json);
+    }
+
+    private static String project(final FieldPredicate predicate, final String json) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonProjection(predicate).project(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)),
+            Channels.newChannel(out));
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+package org.zalando.guild.api.json.fields.bytes;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @since  17.10.2026
+ */
+public class RangeWriterTest {
+
+    @Test
+    public void shortRangesAreStaged() throws IOException {
+        final RecordingChannel channel = new RecordingChannel();
+        final RangeWriter writer = new RangeWriter(ByteBuffer.wrap("abcdefgh".getBytes(StandardCharsets.UTF_8)),
+                channel);
+        writer.write(0, 2);
+        writer.write(2, 3);
+        writer.write((byte) '-');
+        writer.write(5, 8);
+
+        assertThat(writer.finish(), is(7L));
+        assertThat(channel.toString(), is("abc-fgh"));
+        assertThat(channel.writes, is(1));
+    }
+
+    @Test
+    public void longRangesAreWrittenDirectly() throws IOException {
+        final byte[] bytes = new byte[RangeWriter.STAGING_CAPACITY * 2];
+        Arrays.fill(bytes, (byte) 'x');
+
+        final RecordingChannel channel = new RecordingChannel();
+        final RangeWriter writer = new RangeWriter(ByteBuffer.wrap(bytes), channel);
+        writer.write((byte) '[');
+        writer.write(0, bytes.length);
+        writer.write((byte) ']');
+
+        assertThat(writer.finish(), is(bytes.length + 2L));
+        assertThat(channel.writes, is(3));
+    }
+
+    private static final class RecordingChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private int writes;
+
+        @Override
+        public int write(final ByteBuffer src) {
+            writes++;
+
+            final int length = src.remaining();
+            final byte[] bytes = new byte[length];
+            src.get(bytes);
+            out.write(bytes, 0, length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() { }
+
+        @Override
+        public String toString() {
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
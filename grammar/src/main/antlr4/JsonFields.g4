@@ -23,7 +23,8 @@ qualified_field:
     ;
 
 field:
-    (DASH | LETTER | DIGIT)+
+    (DASH | LETTER | DIGIT)+ WILDCARD?
+    | WILDCARD
     ;
 LETTER
     : ('a'..'z') | ('A'..'Z')
@@ -32,7 +33,10 @@ DASH
     : [-_]
     ;
 DIGIT
-    : ('0'..'9');  
+    : ('0'..'9');
+WILDCARD
+    : '*'
+    ;  
 WS 
     : [ \r\n\t]+ -> skip
     ;
\ No newline at end of file
@@ -68,6 +68,17 @@ public class JsonFieldsGrammarSyntaxTest {
         assertThat("(foo_-bar)   ", is(aValidFieldsExpression()));
     }
 
+    @Test
+    public void wildcards() {
+        assertThat("(*)", is(aValidFieldsExpression()));
+        assertThat("(price_*)", is(aValidFieldsExpression()));
+        assertThat("(id, attr_*, price_*(amount))", is(aValidFieldsExpression()));
+        assertThat("!(internal*)", is(aValidFieldsExpression()));
+        assertThat("(*foo)", is(not(aValidFieldsExpression())));
+        assertThat("(fo*o)", is(not(aValidFieldsExpression())));
+        assertThat("(foo**)", is(not(aValidFieldsExpression())));
+    }
+
     @Test
     public void negation() {
         assertThat("!(foo)", is(aValidFieldsExpression()));
@@ -94,6 +105,17 @@ public class JsonFieldsGrammarSyntaxTest {
         assertThat("<<<foo", is(not(aValidFieldsExpression())));
     }
 
+    @Test
+    public void syntaxCases() {
+        for (final String expression : SyntaxCases.VALID_EXPRESSIONS) {
+            assertThat(expression, is(aValidFieldsExpression()));
+        }
+
+        for (final String expression : SyntaxCases.INVALID_EXPRESSIONS) {
+            assertThat(expression, is(not(aValidFieldsExpression())));
+        }
+    }
+
     static Matcher<String> aValidFieldsExpression() {
         return new TypeSafeDiagnosingMatcher<String>() {
             @Override
@@ -0,0 +1,73 @@
+package org.zalando.guild.api.json.fields.grammar;
+
+import static java.util.Arrays.asList;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Fields expressions checked by {@link JsonFieldsGrammarSyntaxTest} against the grammar, and by the
+ * ParserEngineConformanceTest of the java module against all parser engines, through the test jar of this module.
+ *
+ * @since  17.10.2026
+ */
+public final class SyntaxCases {
+
+    public static final List<String> VALID_EXPRESSIONS = unmodifiableList(asList(
+
+                // simpleField
+                "(foo)", "   (    foo    )   ", "(foo    )   ", "(  foo)",
+
+                // numerics
+                "(foo123)", "   (    foo,bar123    )   ", "(f0o,b4r)",
+
+                // uppercase
+                "(FOO)", "   (    fOo, bar, BAZ    )   ",
+
+                // dashesAndUnderscores
+                "(foo-bar)", "(foo_bar)   ", "(foo_)   ", "(foo__bar)   ", "(_foo)   ", "(foo_-bar)   ",
+
+                // wildcards
+                "(*)", "!(*)", "(foo*)", "(price_*)", "(fo*,bar)", "(foo *)", "( * (bar))",
+                "(id, attr_*, price_*(amount))", "!(internal*)", "(foo*(bar),foobar(baz))",
+                "(f*(bar),fo*!(baz),foo(phleem))", "!(b*,foo*(ba*))", "(a,b,c,d,e,f,g,foo*,phleem)",
+
+                // negation
+                "!(foo)", "!(foo, bar)",
+
+                // qualifier
+                "(foo(bar))", "(foo!(bar))", "(foo(bar(baz)))", "(foo!(bar(baz)))", "!(foo(bar(baz)))",
+                "!(foo!(bar!(baz)))",
+
+                // whitespace is skipped between any two tokens, even within field names
+                "(fo o)", "(foo bar(baz))", "\t(\r\nfoo\n,\tbar )", "( - )", "( foo ! ( bar ) )",
+
+                // duplicates
+                "(foo,foo(bar),foo!(baz))",
+
+                // wide field sets
+                "(a,b,c,d,e,f,g,foo)", "(a,b,c,foo(bar),d,e,f,g,phleem,a)",
+                "!(a,b,c,d,bar!(a,b,c,d,e,f,g,baz),e,f,g,foo)"));
+
+    public static final List<String> INVALID_EXPRESSIONS = unmodifiableList(asList(
+
+                // simpleField
+                "foo",
+
+                // wildcards
+                "(*foo)", "(fo*o)", "(foo**)", "(**)", "(foo*bar)",
+
+                // negation
+                "!foo",
+
+                // qualifier
+                "foo(bar)",
+
+                // syntaxError
+                "", "foo, bar", "<<<foo", "   ", "()", "(foo,)", "(,foo)", "(foo,,bar)", "(foo)x", "(foo)(bar)",
+                "!!(foo)", "(foo!!(bar))", "(!(foo))", "(foo", "(foo(bar)", "foo)", "(\u00e9)", "(foo.bar)",
+                "(foo\fbar)"));
+
+    private SyntaxCases() { }
+}
@@ -5,7 +5,9 @@ import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
- * This abstraction holds the context for the fields hierarchy required by the {@link JsonFieldsFilterProvider}.
+ * This abstraction holds the context for the fields hierarchy required by the {@link JsonFieldsFilterProvider}. The
+ * context is only maintained as long as filtering is needed: below a field whose whole subtree is included, and in
+ * serializations with the always-true predicate, fields are serialized without pushing them.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
@@ -0,0 +1,106 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An array-backed stack of field names, meant to be reused for many serializations. The backing array only grows, so
+ * once it has reached the maximum depth of the serialized objects, pushing and popping fields doesn't allocate. This
+ * class is not thread safe.
+ *
+ * @since  17.10.2026
+ */
+public final class ContextStack {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] fields = new String[INITIAL_CAPACITY];
+    private int depth;
+
+    private final List<String> view = new View();
+
+    /**
+     * Add the supplied field name to the top of the stack.
+     */
+    public void push(@Nonnull final String field) {
+        checkNotNull(field, "Field required");
+        if (depth == fields.length) {
+            fields = Arrays.copyOf(fields, depth * 2);
+        }
+
+        fields[depth++] = field;
+    }
+
+    /**
+     * Remove the field name at the top of the stack.
+     *
+     * @exception  IllegalStateException  if the stack is empty
+     */
+    public void pop() {
+        checkState(depth > 0, "Stack is empty");
+        fields[--depth] = null;
+    }
+
+    /**
+     * Remove all field names.
+     */
+    public void clear() {
+        Arrays.fill(fields, 0, depth, null);
+        depth = 0;
+    }
+
+    /**
+     * Return the number of field names on the stack.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Return the field name at the top of the stack.
+     *
+     * @exception  IllegalStateException  if the stack is empty
+     */
+    @Nonnull
+    public String top() {
+        checkState(depth > 0, "Stack is empty");
+        return fields[depth - 1];
+    }
+
+    /**
+     * Return an unmodifiable view of the stack, from bottom to top. The view is not a copy, i.e. it reflects all later
+     * changes to the stack.
+     */
+    @Nonnull
+    public List<String> asList() {
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    private final class View extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= depth) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + depth);
+            }
+
+            return fields[index];
+        }
+
+        @Override
+        public int size() {
+            return depth;
+        }
+    }
+}
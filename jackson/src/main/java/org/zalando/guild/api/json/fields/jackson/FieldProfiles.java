@@ -0,0 +1,113 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.zalando.guild.api.json.fields.java.expression.ParserFramework;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * An immutable registry of named fields expressions ("profiles"), e.g. the fixed expressions a mobile client uses per
+ * endpoint. All expressions are parsed and compiled when the registry is created, so invalid expressions fail at
+ * startup, and clients that refer to a profile by name cause no parsing at all.
+ *
+ * <p>Register the profiles with {@link JsonFieldsModule#withProfiles(FieldProfiles)}, and select a profile per call
+ * with the serialization attribute {@link JsonFieldsModule#PROFILE_ATTRIBUTE}, or per request with
+ * {@link org.zalando.guild.api.json.fields.jackson.servlet.ProfilePredicateFunction}.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class FieldProfiles {
+
+    private static final FieldProfiles NONE = new FieldProfiles(ImmutableMap.<String, FieldPredicate>of());
+
+    private final ImmutableMap<String, FieldPredicate> predicates;
+
+    private FieldProfiles(final ImmutableMap<String, FieldPredicate> predicates) {
+        this.predicates = predicates;
+    }
+
+    /**
+     * Return a registry without profiles.
+     */
+    @Nonnull
+    public static FieldProfiles noFieldProfiles() {
+        return NONE;
+    }
+
+    /**
+     * Parse and compile the supplied fields expressions by profile name.
+     *
+     * @exception  IllegalArgumentException  if an expression is invalid
+     */
+    @Nonnull
+    public static FieldProfiles fieldProfiles(@Nonnull final Map<String, String> expressionsByName) {
+        checkNotNull(expressionsByName, "Expressions required");
+
+        final ImmutableMap.Builder<String, FieldPredicate> predicates = ImmutableMap.builder();
+        for (final Map.Entry<String, String> entry : expressionsByName.entrySet()) {
+            final String name = checkNotNull(entry.getKey(), "Profile name required");
+            final String expression = checkNotNull(entry.getValue(), "Expression of profile %s required", name);
+            try {
+                predicates.put(name, ParserFramework.parseFieldsExpressionOrFail(expression));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Invalid expression for profile '%s': %s", name,
+                        expression), e);
+            }
+        }
+
+        return new FieldProfiles(predicates.build());
+    }
+
+    /**
+     * Return the compiled predicate of the supplied profile, or null if there is no such profile.
+     */
+    @Nullable
+    public FieldPredicate getPredicate(@Nonnull final String name) {
+        checkNotNull(name, "Name required");
+        return predicates.get(name);
+    }
+
+    /**
+     * Return the compiled predicate of the supplied profile.
+     *
+     * @exception  IllegalArgumentException  if there is no such profile
+     */
+    @Nonnull
+    public FieldPredicate getPredicateOrFail(@Nonnull final String name) {
+        final FieldPredicate predicate = getPredicate(name);
+        if (predicate == null) {
+            throw new IllegalArgumentException(String.format("Unknown profile '%s'", name));
+        }
+
+        return predicate;
+    }
+
+    /**
+     * Return the names of all profiles, in registration order.
+     */
+    @Nonnull
+    public Set<String> getNames() {
+        return predicates.keySet();
+    }
+
+    /**
+     * Return the compiled predicates of all profiles.
+     */
+    @Nonnull
+    Iterable<FieldPredicate> predicates() {
+        return predicates.values();
+    }
+
+    @Override
+    public String toString() {
+        return "FieldProfiles" + predicates;
+    }
+}
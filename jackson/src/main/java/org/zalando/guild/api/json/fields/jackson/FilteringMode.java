@@ -0,0 +1,26 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+/**
+ * The ways a {@link JsonFieldsModule} can hook into Jackson's serialization.
+ *
+ * @since  17.10.2026
+ */
+public enum FilteringMode {
+
+    /**
+     * Every property of every bean is passed through a Jackson PropertyFilter, which decides whether to serialize it.
+     * Excluded properties are never accessed, but any-getters are always called. This is the default.
+     */
+    PROPERTY_FILTER,
+
+    /**
+     * Bean serializers are replaced with serializers that only hold the properties included by the current
+     * expression, cached per bean type and expression state. Excluded properties cost nothing. Maps, unwrapped beans
+     * and beans with a custom filter id are still filtered with the PropertyFilter.
+     *
+     * <p>Use this mode if getters are expensive, e.g. trigger lazy loading: neither excluded getters nor any-getters
+     * that can't contribute an included field are ever called. As a consequence, an any-getter entry can't be selected
+     * by name if its key is also the name of a regular property.</p>
+     */
+    SERIALIZER_MODIFIER
+}
@@ -2,11 +2,11 @@ package org.zalando.guild.api.json.fields.jackson;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.annotation.Nonnull;
 
+import org.zalando.guild.api.json.fields.java.metrics.Metrics;
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
 
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -23,7 +23,8 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.google.common.base.Supplier;
 
 /**
- * A FilterProvider that always returns a filter, backed by a supplier of FieldPredicate.
+ * A FilterProvider that always returns a filter, backed by a supplier of FieldPredicate. Every filtered property is
+ * reported to the active {@link org.zalando.guild.api.json.fields.java.metrics.FieldsMetrics}.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
@@ -34,12 +35,22 @@ public final class JsonFieldsFilterProvider extends SimpleFilterProvider {
 
     private static final long serialVersionUID = -1263420090088201679L;
 
-    private final Supplier<FieldPredicate> predicateSupplier;
+    private final MatcherSource matcherSource;
     private final ContextProvider contextProvider;
 
+    /**
+     * The filter of all beans without a custom filter, which is stateless and therefore shared.
+     */
+    private final PropertyFilter includeAllFilter = new FieldPredicatePropertyFilter(INCLUDE_ALL);
+
     public JsonFieldsFilterProvider(@Nonnull final Supplier<FieldPredicate> predicateSupplier,
             @Nonnull final ContextProvider contextProvider) {
-        this.predicateSupplier = checkNotNull(predicateSupplier, "PredicateProvider required");
+        this(new MatcherSource(predicateSupplier), contextProvider);
+    }
+
+    JsonFieldsFilterProvider(@Nonnull final MatcherSource matcherSource,
+            @Nonnull final ContextProvider contextProvider) {
+        this.matcherSource = checkNotNull(matcherSource, "MatcherSource required");
         this.contextProvider = checkNotNull(contextProvider, "ContextProvider required");
         super.setFailOnUnknownId(false);
     }
@@ -76,7 +87,7 @@ public final class JsonFieldsFilterProvider extends SimpleFilterProvider {
 
         final PropertyFilter propertyFilter = super.findPropertyFilter(filterId, valueToFilter);
 
-        return new FieldPredicatePropertyFilter(propertyFilter == null ? INCLUDE_ALL : propertyFilter);
+        return propertyFilter == null ? includeAllFilter : new FieldPredicatePropertyFilter(propertyFilter);
     }
 
     private class FieldPredicatePropertyFilter implements PropertyFilter {
@@ -92,26 +103,31 @@ public final class JsonFieldsFilterProvider extends SimpleFilterProvider {
         public void serializeAsField(final Object pojo, final JsonGenerator jgen, final SerializerProvider prov,
                 final PropertyWriter writer) throws Exception {
 
+            final MatcherStack matcherStack = matcherSource.matcherStack(prov);
+            final FieldMatcher current = matcherStack.peek();
+            if (current == FieldMatchers.alwaysTrue()) {
+
+                // everything below this level is included
+                delegate.serializeAsField(pojo, jgen, prov, writer);
+                return;
+            }
+
             final String name = writer.getName();
-            final FieldPredicate fieldPredicate = predicateSupplier.get();
-            if (fieldPredicate.apply(qualifiedPath(name))) {
+            final FieldMatcher matcher = current.descend(name);
+            final boolean matches = matcher.matches();
+            Metrics.get().propertiesFiltered(matcherStack.size(), 1, matches ? 1 : 0);
+            if (matches) {
+                matcherStack.push(matcher, name);
                 contextProvider.pushContext(name);
                 try {
                     delegate.serializeAsField(pojo, jgen, prov, writer);
                 } finally {
                     contextProvider.popContext();
+                    matcherStack.pop();
                 }
             }
         }
 
-        private List<String> qualifiedPath(final String path) {
-            final List<String> context = contextProvider.getContext();
-            final List<String> paths = new ArrayList<>(context.size() + 1);
-            paths.addAll(context);
-            paths.add(path);
-            return paths;
-        }
-
         @Override
         public void serializeAsElement(final Object elementValue, final JsonGenerator jgen,
                 final SerializerProvider prov, final PropertyWriter writer) throws Exception {
@@ -2,14 +2,24 @@ package org.zalando.guild.api.json.fields.jackson;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
 import javax.annotation.Nonnull;
 
 import org.zalando.guild.api.json.fields.jackson.generated.PackageVersion;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
 
 import com.google.common.base.Supplier;
 
@@ -21,6 +31,21 @@ import com.google.common.base.Supplier;
  */
 public class JsonFieldsModule extends SimpleModule {
 
+    /**
+     * The name of the serialization attribute that may hold the FieldPredicate of a single serialization, e.g.
+     * {@code objectMapper.writer().withAttribute(FIELD_PREDICATE_ATTRIBUTE, predicate)}. If present, it takes
+     * precedence over the predicate supplier of the module.
+     */
+    public static final String FIELD_PREDICATE_ATTRIBUTE = FieldPredicate.class.getName();
+
+    /**
+     * The name of the serialization attribute that may hold the name of a profile registered with
+     * {@link #withProfiles(FieldProfiles)}, e.g. {@code objectMapper.writer().withAttribute(PROFILE_ATTRIBUTE,
+     * "mobile")}. If present, it takes precedence over the predicate supplier of the module, but not over
+     * {@link #FIELD_PREDICATE_ATTRIBUTE}. Unknown profile names fail the serialization.
+     */
+    public static final String PROFILE_ATTRIBUTE = FieldProfiles.class.getName();
+
     private static final long serialVersionUID = 7598419837008787123L;
     private JsonFieldsAnnotationIntrospector jsonFieldsAnnotationIntrospector;
 
@@ -33,7 +58,21 @@ public class JsonFieldsModule extends SimpleModule {
         checkNotNull(predicateSupplier, "PredicateSupplier required");
         checkNotNull(contextProvider, "ContextProvider required");
         checkNotNull(introspector, "Introspector required");
-        return new JsonFieldsModule(predicateSupplier, contextProvider, introspector);
+        return new JsonFieldsModule(predicateSupplier, contextProvider, introspector, FilteringMode.PROPERTY_FILTER);
+    }
+
+    /**
+     * Instantiate the module with a custom subclass of JsonFieldsAnnotationIntrospector and the supplied
+     * {@link FilteringMode}.
+     */
+    public static JsonFieldsModule createJsonFieldsModuleWithCustomIntrospector(
+            @Nonnull final Supplier<FieldPredicate> predicateSupplier, @Nonnull final ContextProvider contextProvider,
+            @Nonnull final JsonFieldsAnnotationIntrospector introspector, @Nonnull final FilteringMode filteringMode) {
+        checkNotNull(predicateSupplier, "PredicateSupplier required");
+        checkNotNull(contextProvider, "ContextProvider required");
+        checkNotNull(introspector, "Introspector required");
+        checkNotNull(filteringMode, "FilteringMode required");
+        return new JsonFieldsModule(predicateSupplier, contextProvider, introspector, filteringMode);
     }
 
     /**
@@ -43,7 +82,97 @@ public class JsonFieldsModule extends SimpleModule {
             @Nonnull final ContextProvider contextProvider) {
         checkNotNull(predicateSupplier, "PredicateSupplier required");
         checkNotNull(contextProvider, "ContextProvider required");
-        return new JsonFieldsModule(predicateSupplier, contextProvider);
+        return new JsonFieldsModule(predicateSupplier, contextProvider, new JsonFieldsAnnotationIntrospector(),
+                FilteringMode.PROPERTY_FILTER);
+    }
+
+    /**
+     * Instantiate the module with a default JsonFieldsAnnotationIntrospector, keeping the context only in the
+     * serialization, see {@link SerializationContextProvider}.
+     */
+    public static JsonFieldsModule createJsonFieldsModule(@Nonnull final Supplier<FieldPredicate> predicateSupplier) {
+        return createJsonFieldsModule(predicateSupplier, FilteringMode.PROPERTY_FILTER);
+    }
+
+    /**
+     * Instantiate the module with a default JsonFieldsAnnotationIntrospector and the supplied {@link FilteringMode},
+     * keeping the context only in the serialization, see {@link SerializationContextProvider}.
+     */
+    public static JsonFieldsModule createJsonFieldsModule(@Nonnull final Supplier<FieldPredicate> predicateSupplier,
+            @Nonnull final FilteringMode filteringMode) {
+        return createJsonFieldsModule(predicateSupplier, NoContextProvider.INSTANCE, filteringMode);
+    }
+
+    /**
+     * Instantiate the module with a default JsonFieldsAnnotationIntrospector and the supplied {@link FilteringMode}.
+     */
+    public static JsonFieldsModule createJsonFieldsModule(@Nonnull final Supplier<FieldPredicate> predicateSupplier,
+            @Nonnull final ContextProvider contextProvider, @Nonnull final FilteringMode filteringMode) {
+        checkNotNull(predicateSupplier, "PredicateSupplier required");
+        checkNotNull(contextProvider, "ContextProvider required");
+        checkNotNull(filteringMode, "FilteringMode required");
+        return new JsonFieldsModule(predicateSupplier, contextProvider, new JsonFieldsAnnotationIntrospector(),
+                filteringMode);
+    }
+
+    /**
+     * Register the supplied profiles, replacing any profiles registered before. This has to be called before the
+     * module is registered with an ObjectMapper. The root matchers of all profiles are created when the module is
+     * registered.
+     */
+    @Nonnull
+    public JsonFieldsModule withProfiles(@Nonnull final FieldProfiles fieldProfiles) {
+        this.profiles = checkNotNull(fieldProfiles, "Profiles required");
+        return this;
+    }
+
+    /**
+     * Create the serializers of the supplied root types and of the beans they contain, as far as they are known from
+     * the declared property types, in the supplied ObjectMapper, which this module has to be registered with. This
+     * moves the cost of introspection from the first serializations after startup to startup. With
+     * {@link FilteringMode#SERIALIZER_MODIFIER}, the pruned serializers of all registered profiles are created, too,
+     * for the same beans.
+     *
+     * @exception  JsonMappingException  if a serializer can't be created
+     */
+    public void prepare(@Nonnull final ObjectMapper objectMapper, @Nonnull final Class<?>... rootTypes)
+        throws JsonMappingException {
+        checkNotNull(objectMapper, "ObjectMapper required");
+        checkNotNull(rootTypes, "Root types required");
+
+        final SerializerProvider provider = ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+                .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
+        final Set<JsonSerializer<?>> prepared = new HashSet<>();
+        for (final Class<?> rootType : rootTypes) {
+            provider.findTypedValueSerializer(rootType, true, null);
+
+            final JsonSerializer<Object> serializer = provider.findValueSerializer(rootType, null);
+            prepareSerializers(serializer, provider, prepared);
+            if (serializer instanceof PruningBeanSerializer) {
+                for (final FieldPredicate predicate : profiles.predicates()) {
+                    ((PruningBeanSerializer) serializer).prepare(predicate, provider);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create the serializers of all bean properties reachable from the supplied serializer.
+     */
+    private static void prepareSerializers(final JsonSerializer<?> serializer, final SerializerProvider provider,
+            final Set<JsonSerializer<?>> prepared) throws JsonMappingException {
+        if (!prepared.add(serializer)) {
+            return;
+        }
+
+        final Iterator<PropertyWriter> properties = serializer.properties();
+        while (properties.hasNext()) {
+            final PropertyWriter property = properties.next();
+            if (property instanceof BeanPropertyWriter) {
+                prepareSerializers(PruningBeanSerializer.valueSerializer((BeanPropertyWriter) property, provider),
+                    provider, prepared);
+            }
+        }
     }
 
     @Override
@@ -52,25 +181,29 @@ public class JsonFieldsModule extends SimpleModule {
 
         final ObjectMapper objectMapper = context.getOwner();
 
-        final FilterProvider filterProvider = new JsonFieldsFilterProvider(predicateSupplier, contextProvider);
+        final MatcherSource matcherSource = new MatcherSource(predicateSupplier, profiles);
+        final FilterProvider filterProvider = new JsonFieldsFilterProvider(matcherSource, contextProvider);
         objectMapper.setFilterProvider(filterProvider);
+
+        if (filteringMode == FilteringMode.SERIALIZER_MODIFIER) {
+            context.addBeanSerializerModifier(new PruningBeanSerializerModifier(matcherSource, contextProvider));
+        }
     }
 
     private final Supplier<FieldPredicate> predicateSupplier;
     private final ContextProvider contextProvider;
+    private final FilteringMode filteringMode;
+    private FieldProfiles profiles = FieldProfiles.noFieldProfiles();
 
     private JsonFieldsModule(@Nonnull final Supplier<FieldPredicate> predicateSupplier,
             @Nonnull final ContextProvider contextProvider,
-            @Nonnull final JsonFieldsAnnotationIntrospector introspector) {
+            @Nonnull final JsonFieldsAnnotationIntrospector introspector,
+            @Nonnull final FilteringMode filteringMode) {
         super(PackageVersion.VERSION);
         this.predicateSupplier = predicateSupplier;
         this.contextProvider = contextProvider;
         this.jsonFieldsAnnotationIntrospector = introspector;
-    }
-
-    private JsonFieldsModule(@Nonnull final Supplier<FieldPredicate> predicateSupplier,
-            @Nonnull final ContextProvider contextProvider) {
-        this(predicateSupplier, contextProvider, new JsonFieldsAnnotationIntrospector());
+        this.filteringMode = filteringMode;
     }
 
 }
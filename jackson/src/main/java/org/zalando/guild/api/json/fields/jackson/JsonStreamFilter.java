@@ -0,0 +1,122 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Filters raw JSON without data binding: copies the tokens of a {@link JsonParser} to a {@link JsonGenerator}, leaving
+ * out all fields that don't match a {@link FieldPredicate}. Excluded values are skipped with
+ * {@link JsonParser#skipChildren()}, so they are never materialized. Array elements are filtered like the array
+ * itself, as in bean serialization, and numbers are copied verbatim. Copied values may be nested at most
+ * {@value #MAX_DEPTH} levels deep, deeper input fails with a {@link JsonParseException}.
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class JsonStreamFilter {
+
+    /**
+     * The maximum nesting depth of copied objects and arrays.
+     */
+    public static final int MAX_DEPTH = 1000;
+
+    private final FieldMatcher root;
+
+    /**
+     * Create a filter for the supplied predicate, which is compiled (see
+     * {@link FieldPredicates#compile(FieldPredicate)}) if possible.
+     */
+    @Nonnull
+    public static JsonStreamFilter jsonStreamFilter(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+        return new JsonStreamFilter(FieldMatchers.matcher(FieldPredicates.compile(predicate)));
+    }
+
+    private JsonStreamFilter(final FieldMatcher root) {
+        this.root = root;
+    }
+
+    /**
+     * Copy all remaining root-level values of the parser to the generator, leaving out excluded fields. Neither the
+     * parser nor the generator are closed, but the generator is flushed.
+     *
+     * @exception  JsonParseException  if a copied value is nested deeper than {@link #MAX_DEPTH}
+     */
+    public void filter(@Nonnull final JsonParser parser, @Nonnull final JsonGenerator generator) throws IOException {
+        checkNotNull(parser, "Parser required");
+        checkNotNull(generator, "Generator required");
+
+        JsonToken token = parser.getCurrentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+
+        while (token != null) {
+            copyValue(parser, generator, root, 0);
+            token = parser.nextToken();
+        }
+
+        generator.flush();
+    }
+
+    /**
+     * Copy the value at the current token of the parser, which is left at the last token of the value.
+     */
+    private static void copyValue(final JsonParser parser, final JsonGenerator generator, final FieldMatcher matcher,
+            final int depth) throws IOException {
+        final JsonToken token = parser.getCurrentToken();
+        if ((token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) && depth == MAX_DEPTH) {
+            throw new JsonParseException("Maximum nesting depth of " + MAX_DEPTH + " exceeded",
+                parser.getCurrentLocation());
+        }
+
+        if (token == JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                final FieldMatcher child = matcher.descend(name);
+                parser.nextToken();
+                if (child.matches()) {
+                    generator.writeFieldName(name);
+                    copyValue(parser, generator, child, depth + 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            generator.writeEndObject();
+        } else if (token == JsonToken.START_ARRAY) {
+            generator.writeStartArray();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                copyValue(parser, generator, matcher, depth + 1);
+            }
+
+            generator.writeEndArray();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+
+            // copyCurrentEvent() would convert the number to a double and lose its exact representation
+            generator.writeNumber(parser.getText());
+        } else {
+            generator.copyCurrentEvent(parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonStreamFilter(" + root + ")";
+    }
+}
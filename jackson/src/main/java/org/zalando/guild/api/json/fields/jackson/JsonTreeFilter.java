@@ -0,0 +1,174 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies a {@link FieldPredicate} to {@link JsonNode} trees, either in place or by creating a filtered copy. Array
+ * elements are filtered like the array itself, as in bean serialization.
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class JsonTreeFilter {
+
+    private final FieldMatcher root;
+
+    /**
+     * Create a filter for the supplied predicate, which is compiled (see
+     * {@link FieldPredicates#compile(FieldPredicate)}) if possible.
+     */
+    @Nonnull
+    public static JsonTreeFilter jsonTreeFilter(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+        return new JsonTreeFilter(FieldMatchers.matcher(FieldPredicates.compile(predicate)));
+    }
+
+    private JsonTreeFilter(final FieldMatcher root) {
+        this.root = root;
+    }
+
+    /**
+     * Remove all excluded fields from the supplied tree.
+     */
+    public void prune(@Nonnull final JsonNode node) {
+        checkNotNull(node, "Node required");
+        prune(node, root);
+    }
+
+    /**
+     * Return a filtered version of the supplied tree, which is left unchanged. Subtrees without excluded fields are not
+     * copied, but shared between both trees, so the result should not be modified. If nothing is excluded, the
+     * supplied tree is returned.
+     */
+    @Nonnull
+    public JsonNode filter(@Nonnull final JsonNode node) {
+        checkNotNull(node, "Node required");
+        return filter(node, root);
+    }
+
+    private static void prune(final JsonNode node, final FieldMatcher matcher) {
+        if (matcher == FieldMatchers.alwaysTrue()) {
+            return;
+        }
+
+        if (node.isObject()) {
+            List<String> excluded = null;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final FieldMatcher child = matcher.descend(field.getKey());
+                if (child.matches()) {
+                    prune(field.getValue(), child);
+                } else {
+                    if (excluded == null) {
+                        excluded = new ArrayList<>();
+                    }
+
+                    excluded.add(field.getKey());
+                }
+            }
+
+            if (excluded != null) {
+                ((ObjectNode) node).remove(excluded);
+            }
+        } else if (node.isArray()) {
+            for (final JsonNode element : node) {
+                prune(element, matcher);
+            }
+        }
+    }
+
+    private static JsonNode filter(final JsonNode node, final FieldMatcher matcher) {
+        if (matcher == FieldMatchers.alwaysTrue()) {
+            return node;
+        }
+
+        if (node.isObject()) {
+            ObjectNode result = null;
+            int index = 0;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final JsonNode value = field.getValue();
+                final FieldMatcher child = matcher.descend(field.getKey());
+                final JsonNode filtered = child.matches() ? filter(value, child) : null;
+                if (result == null && filtered != value) {
+                    result = copyFields((ObjectNode) node, index);
+                }
+
+                if (result != null && filtered != null) {
+                    result.set(field.getKey(), filtered);
+                }
+
+                index++;
+            }
+
+            return result == null ? node : result;
+        } else if (node.isArray()) {
+            ArrayNode result = null;
+            for (int i = 0; i < node.size(); i++) {
+                final JsonNode element = node.get(i);
+                final JsonNode filtered = filter(element, matcher);
+                if (result == null && filtered != element) {
+                    result = copyElements((ArrayNode) node, i);
+                }
+
+                if (result != null) {
+                    result.add(filtered);
+                }
+            }
+
+            return result == null ? node : result;
+        }
+
+        return node;
+    }
+
+    /**
+     * Return a new object node holding the first fields of the supplied object node.
+     */
+    private static ObjectNode copyFields(final ObjectNode node, final int count) {
+        final ObjectNode copy = node.objectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        for (int i = 0; i < count; i++) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            copy.set(field.getKey(), field.getValue());
+        }
+
+        return copy;
+    }
+
+    /**
+     * Return a new array node holding the first elements of the supplied array node.
+     */
+    private static ArrayNode copyElements(final ArrayNode node, final int count) {
+        final ArrayNode copy = node.arrayNode();
+        for (int i = 0; i < count; i++) {
+            copy.add(node.get(i));
+        }
+
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonTreeFilter(" + root + ")";
+    }
+}
@@ -0,0 +1,111 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import com.google.common.base.Supplier;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Resolves the {@link MatcherStack} of a serialization from a supplier of FieldPredicate. Shared by the property filter
+ * and the serializer modifier of a {@link JsonFieldsModule}.
+ *
+ * @since  17.10.2026
+ */
+final class MatcherSource {
+
+    /**
+     * Upper bound of cached root matchers. A matcher of an uncompiled predicate memoizes its decisions and holds on to
+     * its predicate, so weak keys alone do not keep the cache small.
+     */
+    private static final int MAX_CACHED_MATCHERS = 256;
+
+    private final Supplier<FieldPredicate> predicateSupplier;
+    private final FieldProfiles profiles;
+
+    /**
+     * Root matchers by predicate identity, so that all serializations with the same predicate share the decisions of
+     * the matcher. Predicates are weakly referenced, i.e. a matcher lives no longer than its predicate, and at most
+     * {@link #MAX_CACHED_MATCHERS} matchers are kept.
+     */
+    private final LoadingCache<FieldPredicate, FieldMatcher> matchers = CacheBuilder.newBuilder()
+                                                                                    .weakKeys()
+                                                                                    .maximumSize(MAX_CACHED_MATCHERS)
+                                                                                    .build(new MatcherLoader());
+
+    MatcherSource(@Nonnull final Supplier<FieldPredicate> predicateSupplier) {
+        this(predicateSupplier, FieldProfiles.noFieldProfiles());
+    }
+
+    /**
+     * Create a source that also resolves the supplied profiles. The root matchers of all profiles are created eagerly.
+     */
+    MatcherSource(@Nonnull final Supplier<FieldPredicate> predicateSupplier, @Nonnull final FieldProfiles profiles) {
+        this.predicateSupplier = checkNotNull(predicateSupplier, "PredicateSupplier required");
+        this.profiles = checkNotNull(profiles, "Profiles required");
+        for (final FieldPredicate predicate : profiles.predicates()) {
+            matchers.getUnchecked(predicate);
+        }
+    }
+
+    /**
+     * Return the shared root matcher of the supplied predicate.
+     */
+    @Nonnull
+    FieldMatcher rootMatcher(@Nonnull final FieldPredicate predicate) {
+        return matchers.getUnchecked(predicate);
+    }
+
+    /**
+     * Return the matcher stack of the current serialization. The predicate is resolved once per serialization, when
+     * the first property is filtered, and its root matcher is shared with all other serializations using the same
+     * predicate. A predicate passed as attribute {@link JsonFieldsModule#FIELD_PREDICATE_ATTRIBUTE} takes precedence
+     * over the supplier, and so does a profile named by attribute {@link JsonFieldsModule#PROFILE_ATTRIBUTE}.
+     *
+     * @exception  IllegalArgumentException  if the profile attribute names an unknown profile
+     */
+    @Nonnull
+    MatcherStack matcherStack(@Nonnull final SerializerProvider prov) {
+        MatcherStack matcherStack = (MatcherStack) prov.getAttribute(MatcherStack.ATTRIBUTE);
+        if (matcherStack == null) {
+            final FieldPredicate predicate = predicate(prov);
+            matcherStack = predicate == FieldPredicates.alwaysTrue()
+                ? MatcherStack.UNFILTERED : new MatcherStack(matchers.getUnchecked(predicate));
+            prov.setAttribute(MatcherStack.ATTRIBUTE, matcherStack);
+        }
+
+        return matcherStack;
+    }
+
+    private FieldPredicate predicate(final SerializerProvider prov) {
+        final Object attribute = prov.getAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE);
+        if (attribute instanceof FieldPredicate) {
+            return (FieldPredicate) attribute;
+        }
+
+        final Object profile = prov.getAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE);
+        if (profile instanceof String) {
+            return profiles.getPredicateOrFail((String) profile);
+        }
+
+        return predicateSupplier.get();
+    }
+
+    private static final class MatcherLoader extends CacheLoader<FieldPredicate, FieldMatcher> {
+        @Override
+        public FieldMatcher load(@Nonnull final FieldPredicate predicate) {
+            return FieldMatchers.matcher(predicate);
+        }
+    }
+}
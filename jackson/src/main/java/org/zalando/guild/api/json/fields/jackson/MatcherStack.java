@@ -0,0 +1,76 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+
+/**
+ * The state of the {@link JsonFieldsFilterProvider} during a single serialization: a stack holding the
+ * {@link FieldMatcher} and the name of every level of the current field hierarchy. It is stored as a per-call attribute
+ * of the {@link com.fasterxml.jackson.databind.SerializerProvider}, so it is never shared between threads, and doesn't
+ * depend on the thread a serialization runs on.
+ *
+ * @since  17.10.2026
+ */
+final class MatcherStack {
+
+    /**
+     * The attribute key.
+     */
+    static final Object ATTRIBUTE = MatcherStack.class;
+
+    /**
+     * The stack of all serializations with the always-true predicate. It is shared, which is safe because nothing is
+     * ever pushed onto a stack whose top is the always-true matcher: everything below that level is serialized
+     * without filtering.
+     */
+    static final MatcherStack UNFILTERED = new MatcherStack(FieldMatchers.alwaysTrue());
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private FieldMatcher[] matchers = new FieldMatcher[INITIAL_CAPACITY];
+    private int size;
+    private final ContextStack names = new ContextStack();
+
+    MatcherStack(@Nonnull final FieldMatcher root) {
+        matchers[size++] = root;
+    }
+
+    @Nonnull
+    FieldMatcher peek() {
+        return matchers[size - 1];
+    }
+
+    /**
+     * Return the number of matchers on the stack, which is the depth of the fields evaluated against the top matcher.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Return a live view of the names of the current field hierarchy.
+     */
+    @Nonnull
+    List<String> context() {
+        return names.asList();
+    }
+
+    void push(@Nonnull final FieldMatcher matcher, @Nonnull final String name) {
+        if (size == matchers.length) {
+            matchers = Arrays.copyOf(matchers, size * 2);
+        }
+
+        matchers[size++] = matcher;
+        names.push(name);
+    }
+
+    void pop() {
+        names.pop();
+        matchers[--size] = null;
+    }
+}
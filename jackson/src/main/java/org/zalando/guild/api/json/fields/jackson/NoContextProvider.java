@@ -0,0 +1,34 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ContextProvider that doesn't keep any context. Used by the modules created without a ContextProvider, which keep
+ * the context in the per-call attributes of the serialization only, see {@link SerializationContextProvider}.
+ *
+ * @since  17.10.2026
+ */
+final class NoContextProvider implements ContextProvider {
+
+    static final NoContextProvider INSTANCE = new NoContextProvider();
+
+    private NoContextProvider() { }
+
+    @Nonnull
+    @Override
+    public List<String> getContext() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void pushContext(@Nonnull final String context) { }
+
+    @Override
+    public void popContext() { }
+
+    @Override
+    public void clear() { }
+}
@@ -0,0 +1,421 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.metrics.Metrics;
+import org.zalando.guild.api.json.fields.java.model.FieldMatcher;
+import org.zalando.guild.api.json.fields.java.model.FieldMatchers;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldSymbols;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A bean serializer that only holds the properties included by the current {@link FieldMatcher}, so excluded
+ * properties cost nothing and Jackson's unfiltered code path is used.
+ *
+ * <p>An instance of this class either dispatches or is pruned. The dispatcher replaces the regular BeanSerializer of a
+ * type and looks up (or creates) the pruned serializer for the matcher state at the top of the {@link MatcherStack}.
+ * Pruned serializers hold the included properties and the child matcher state of every property, which they push
+ * while the property is being serialized. If the matcher state includes everything, the dispatcher delegates to a copy
+ * that serializes like the original BeanSerializer.</p>
+ *
+ * <p>Excluded properties are never accessed. The any-getter of a bean is only called if the current matcher state may
+ * include fields other than the regular properties of the bean, so any-getter entries that shadow a regular property
+ * can't be selected by name. Beans with a custom filter id and unwrapped beans fall back to the
+ * {@link JsonFieldsFilterProvider}, which doesn't access excluded properties either. Beans with an array shape are
+ * pruned and serialized as objects, just like Jackson's BeanSerializer serializes them when a property filter is
+ * configured, so both {@link FilteringMode filtering modes} produce the same output.</p>
+ *
+ * @since  17.10.2026
+ */
+final class PruningBeanSerializer extends BeanSerializerBase {
+
+    private static final long serialVersionUID = 3402185364591049536L;
+
+    /**
+     * Maximum number of pruned serializers cached per dispatcher. Compiled expressions have few states each, but every
+     * distinct expression brings its own states, and matchers of uncompiled predicates may be created per field
+     * hierarchy. The least recently used serializers are evicted first.
+     */
+    private static final int MAX_PRUNED_SERIALIZERS = 256;
+
+    private final MatcherSource matcherSource;
+    private final ContextProvider contextProvider;
+
+    /**
+     * Dispatchers only: pruned serializers by matcher state. States are weakly referenced, so the serializers of an
+     * expression that is no longer in use don't keep its trie alive.
+     */
+    private final Cache<FieldMatcher, PruningBeanSerializer> pruned;
+
+    /**
+     * Dispatchers only: the symbol of every property name (see {@link FieldSymbols}), resolved once, so that pruning
+     * descends without looking up names.
+     */
+    private final int[] symbols;
+
+    /**
+     * Pruned serializers only: the matcher state of every property, or null if the serializer doesn't filter.
+     */
+    private final FieldMatcher[] matchers;
+
+    /**
+     * Pruned serializers only: whether the any-getter has to be called, because one of its entries may be included.
+     */
+    private final boolean includesAnyGetter;
+
+    /**
+     * Dispatchers only: the serializer for the always-true matcher state, lazily created. It is immutable, so racy
+     * initialization is fine.
+     */
+    private transient PruningBeanSerializer unfiltered;
+
+    /**
+     * Create a dispatcher replacing the supplied serializer. The filter id of the {@link JsonFieldsFilterProvider} is
+     * removed, so that Jackson doesn't call the property filter.
+     */
+    static BeanSerializerBase dispatcher(@Nonnull final BeanSerializerBase src,
+            @Nonnull final MatcherSource matcherSource, @Nonnull final ContextProvider contextProvider) {
+        final PruningBeanSerializer copy = new PruningBeanSerializer(src, matcherSource, contextProvider);
+        return JsonFieldsFilterProvider.FILTER_ID.equals(copy._propertyFilterId) ? copy.withFilterId(null) : copy;
+    }
+
+    private PruningBeanSerializer(final BeanSerializerBase src, final MatcherSource matcherSource,
+            final ContextProvider contextProvider) {
+        super(src);
+        this.matcherSource = matcherSource;
+        this.contextProvider = contextProvider;
+        this.pruned = prunedCache();
+        this.symbols = symbols(_props);
+        this.matchers = null;
+        this.includesAnyGetter = true;
+    }
+
+    private PruningBeanSerializer(final PruningBeanSerializer src, final ObjectIdWriter objectIdWriter,
+            final Object filterId) {
+        super(src, objectIdWriter, filterId);
+        this.matcherSource = src.matcherSource;
+        this.contextProvider = src.contextProvider;
+        this.pruned = prunedCache();
+        this.symbols = symbols(_props);
+        this.matchers = null;
+        this.includesAnyGetter = true;
+    }
+
+    private PruningBeanSerializer(final PruningBeanSerializer src, final String[] toIgnore) {
+        super(src, toIgnore);
+        this.matcherSource = src.matcherSource;
+        this.contextProvider = src.contextProvider;
+        this.pruned = prunedCache();
+        this.symbols = symbols(_props);
+        this.matchers = null;
+        this.includesAnyGetter = true;
+    }
+
+    private PruningBeanSerializer(final PruningBeanSerializer src, final BeanPropertyWriter[] properties,
+            final BeanPropertyWriter[] filteredProperties, final FieldMatcher[] matchers,
+            final boolean includesAnyGetter) {
+        super(src, properties, filteredProperties);
+        this.matcherSource = src.matcherSource;
+        this.contextProvider = src.contextProvider;
+        this.pruned = null;
+        this.symbols = null;
+        this.matchers = matchers;
+        this.includesAnyGetter = includesAnyGetter;
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(final ObjectIdWriter objectIdWriter) {
+        return new PruningBeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(final Object filterId) {
+        final Object effectiveFilterId = JsonFieldsFilterProvider.FILTER_ID.equals(filterId) ? null : filterId;
+        return new PruningBeanSerializer(this, _objectIdWriter, effectiveFilterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withIgnorals(final String[] toIgnore) {
+        return new PruningBeanSerializer(this, toIgnore);
+    }
+
+    /**
+     * Not supported, as in Jackson's BeanSerializer with a property filter: beans with an array shape are pruned and
+     * serialized as objects, see the class documentation.
+     */
+    @Override
+    protected BeanSerializerBase asArraySerializer() {
+        return this;
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(final NameTransformer unwrapper) {
+        return new UnwrappingBeanSerializer(new PruningBeanSerializer(this, _objectIdWriter,
+                    JsonFieldsFilterProvider.FILTER_ID), unwrapper);
+    }
+
+    @Override
+    public void serialize(final Object bean, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+        if (dispatches()) {
+            pruned(provider).serialize(bean, gen, provider);
+            return;
+        }
+
+        if (_objectIdWriter != null) {
+            gen.setCurrentValue(bean);
+            _serializeWithObjectId(bean, gen, provider, true);
+            return;
+        }
+
+        gen.writeStartObject();
+        gen.setCurrentValue(bean);
+        if (_propertyFilterId != null) {
+            serializeFieldsFiltered(bean, gen, provider);
+        } else {
+            serializeFields(bean, gen, provider);
+        }
+
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(final Object bean, final JsonGenerator gen, final SerializerProvider provider,
+            final TypeSerializer typeSer) throws IOException {
+        if (dispatches()) {
+            pruned(provider).serializeWithType(bean, gen, provider, typeSer);
+        } else {
+            super.serializeWithType(bean, gen, provider, typeSer);
+        }
+    }
+
+    @Override
+    protected void serializeFields(final Object bean, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+        if (matchers == null) {
+            super.serializeFields(bean, gen, provider);
+            return;
+        }
+
+        final BeanPropertyWriter[] props;
+        if (_filteredProps != null && provider.getActiveView() != null) {
+            props = _filteredProps;
+        } else {
+            props = _props;
+        }
+
+        final MatcherStack matcherStack = matcherSource.matcherStack(provider);
+        int i = 0;
+        try {
+            for (final int len = props.length; i < len; ++i) {
+                final BeanPropertyWriter prop = props[i];
+                if (prop != null) {
+                    matcherStack.push(matchers[i], prop.getName());
+                    contextProvider.pushContext(prop.getName());
+                    try {
+                        prop.serializeAsField(bean, gen, provider);
+                    } finally {
+                        contextProvider.popContext();
+                        matcherStack.pop();
+                    }
+                }
+            }
+
+            if (_anyGetterWriter != null && includesAnyGetter) {
+
+                // the entries of an any-getter are siblings of the properties, so they are filtered at this level
+                final PropertyFilter filter = findPropertyFilter(provider, JsonFieldsFilterProvider.FILTER_ID, bean);
+                if (filter == null) {
+                    _anyGetterWriter.getAndSerialize(bean, gen, provider);
+                } else {
+                    _anyGetterWriter.getAndFilter(bean, gen, provider, filter);
+                }
+            }
+        } catch (Exception e) {
+            final String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            wrapAndThrow(provider, e, bean, name);
+        } catch (StackOverflowError e) {
+            final JsonMappingException mapE = new JsonMappingException("Infinite recursion (StackOverflowError)", e);
+            final String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            mapE.prependPath(new JsonMappingException.Reference(bean, name));
+            throw mapE;
+        }
+    }
+
+    private boolean dispatches() {
+        return pruned != null && _propertyFilterId == null;
+    }
+
+    /**
+     * Return the pruned serializer for the current matcher state. Unless the state includes everything, the bean's
+     * properties are reported to the active metrics as evaluated, and those of the pruned serializer as included.
+     */
+    private PruningBeanSerializer pruned(final SerializerProvider provider) {
+        final MatcherStack matcherStack = matcherSource.matcherStack(provider);
+        final PruningBeanSerializer serializer = pruned(matcherStack.peek());
+        if (serializer.matchers != null) {
+            Metrics.get().propertiesFiltered(matcherStack.size(), _props.length, serializer._props.length);
+        }
+
+        return serializer;
+    }
+
+    private PruningBeanSerializer pruned(final FieldMatcher state) {
+        if (state == FieldMatchers.alwaysTrue()) {
+            return unfiltered();
+        }
+
+        final PruningBeanSerializer cached = pruned.getIfPresent(state);
+        if (cached != null) {
+            return cached;
+        }
+
+        final PruningBeanSerializer created = prune(state);
+        final PruningBeanSerializer previous = pruned.asMap().putIfAbsent(state, created);
+        return previous == null ? created : previous;
+    }
+
+    private static Cache<FieldMatcher, PruningBeanSerializer> prunedCache() {
+        return CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_PRUNED_SERIALIZERS).build();
+    }
+
+    /**
+     * Create the pruned serializers for the supplied predicate ahead of time: for this bean, and recursively for the
+     * beans of its included properties, as far as their serializers can be determined from the declared property types
+     * (or the element types of collections and arrays). Serializers for other runtime types are created on first use,
+     * as usual.
+     */
+    void prepare(@Nonnull final FieldPredicate predicate, @Nonnull final SerializerProvider provider)
+        throws JsonMappingException {
+        prepare(matcherSource.rootMatcher(predicate), provider, new HashSet<List<Object>>());
+    }
+
+    private void prepare(final FieldMatcher state, final SerializerProvider provider, final Set<List<Object>> visited)
+        throws JsonMappingException {
+        if (!dispatches() || !visited.add(Arrays.<Object>asList(this, state))) {
+            return;
+        }
+
+        final PruningBeanSerializer serializer = pruned(state);
+        if (serializer.matchers == null) {
+            return;
+        }
+
+        for (int i = 0; i < serializer._props.length; i++) {
+            final BeanPropertyWriter prop = serializer._props[i];
+            final JsonSerializer<Object> propertySerializer = valueSerializer(prop, provider);
+            if (propertySerializer instanceof PruningBeanSerializer) {
+                ((PruningBeanSerializer) propertySerializer).prepare(serializer.matchers[i], provider, visited);
+            }
+        }
+    }
+
+    /**
+     * Return the serializer for the values of the supplied property, or for their elements if the property is a
+     * collection or an array, as far as it can be determined from the declared type.
+     */
+    static JsonSerializer<Object> valueSerializer(final BeanPropertyWriter prop, final SerializerProvider provider)
+        throws JsonMappingException {
+        final JavaType type = prop.getType();
+        if (type.isCollectionLikeType() || type.isArrayType()) {
+            return provider.findValueSerializer(type.getContentType(), prop);
+        }
+
+        return prop.hasSerializer() ? prop.getSerializer() : provider.findValueSerializer(type, prop);
+    }
+
+    /**
+     * Return the serializer for the always-true matcher state, which has all properties and doesn't track matchers or
+     * context, i.e. serializes like the original BeanSerializer.
+     */
+    private PruningBeanSerializer unfiltered() {
+        PruningBeanSerializer result = unfiltered;
+        if (result == null) {
+            result = new PruningBeanSerializer(this, _props, _filteredProps, null, true);
+            unfiltered = result;
+        }
+
+        return result;
+    }
+
+    private PruningBeanSerializer prune(final FieldMatcher state) {
+        final int length = _props.length;
+        final FieldMatcher[] allMatchers = new FieldMatcher[length];
+        int included = 0;
+        for (int i = 0; i < length; i++) {
+            final FieldMatcher matcher = symbols[i] == FieldSymbols.NO_SYMBOL ? state.descend(_props[i].getName())
+                                                                              : state.descend(symbols[i]);
+            if (matcher.matches()) {
+                allMatchers[i] = matcher;
+                included++;
+            }
+        }
+
+        final BeanPropertyWriter[] properties = new BeanPropertyWriter[included];
+        final BeanPropertyWriter[] filteredProperties = _filteredProps == null ? null
+                                                                               : new BeanPropertyWriter[included];
+        final FieldMatcher[] prunedMatchers = new FieldMatcher[included];
+        int j = 0;
+        for (int i = 0; i < length; i++) {
+            if (allMatchers[i] != null) {
+                properties[j] = _props[i];
+                if (filteredProperties != null) {
+                    filteredProperties[j] = _filteredProps[i];
+                }
+
+                prunedMatchers[j] = allMatchers[i];
+                j++;
+            }
+        }
+
+        final boolean includesAnyGetter = _anyGetterWriter != null
+                && FieldMatchers.mayMatchOtherFields(state, propertyNames());
+        return new PruningBeanSerializer(this, properties, filteredProperties, prunedMatchers, includesAnyGetter);
+    }
+
+    private static int[] symbols(final BeanPropertyWriter[] properties) {
+        final int[] result = new int[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            result[i] = FieldSymbols.symbol(properties[i].getName());
+        }
+
+        return result;
+    }
+
+    private Set<String> propertyNames() {
+        final Set<String> names = new HashSet<>();
+        for (final BeanPropertyWriter prop : _props) {
+            names.add(prop.getName());
+        }
+
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "PruningBeanSerializer for " + handledType().getName();
+    }
+}
@@ -0,0 +1,36 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * Replaces every regular BeanSerializer with a {@link PruningBeanSerializer}.
+ *
+ * @since  17.10.2026
+ */
+final class PruningBeanSerializerModifier extends BeanSerializerModifier {
+
+    private final MatcherSource matcherSource;
+    private final ContextProvider contextProvider;
+
+    PruningBeanSerializerModifier(@Nonnull final MatcherSource matcherSource,
+            @Nonnull final ContextProvider contextProvider) {
+        this.matcherSource = matcherSource;
+        this.contextProvider = contextProvider;
+    }
+
+    @Override
+    public JsonSerializer<?> modifySerializer(final SerializationConfig config, final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        if (serializer.getClass() == BeanSerializer.class) {
+            return PruningBeanSerializer.dispatcher((BeanSerializer) serializer, matcherSource, contextProvider);
+        }
+
+        return serializer;
+    }
+}
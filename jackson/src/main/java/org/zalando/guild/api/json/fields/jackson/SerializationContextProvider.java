@@ -0,0 +1,36 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Access to the field context in asynchronous environments. The module always keeps the context in the per-call
+ * attributes of the {@link SerializerProvider} of every serialization, too, so it is available when a serialization
+ * moves between threads, and there is no state to clean up afterwards. Create the module without a ContextProvider,
+ * e.g. with {@link JsonFieldsModule#createJsonFieldsModule(com.google.common.base.Supplier)}, and use
+ * {@link #getContext(SerializerProvider)} to read the context, e.g. from a custom serializer.
+ *
+ * @since  17.10.2026
+ */
+public final class SerializationContextProvider {
+
+    private SerializationContextProvider() { }
+
+    /**
+     * Return an unmodifiable view of the context of the supplied serialization, which is empty if no property has been
+     * filtered yet.
+     */
+    @Nonnull
+    public static List<String> getContext(@Nonnull final SerializerProvider provider) {
+        checkNotNull(provider, "Provider required");
+
+        final MatcherStack matcherStack = (MatcherStack) provider.getAttribute(MatcherStack.ATTRIBUTE);
+        return matcherStack == null ? Collections.<String>emptyList() : matcherStack.context();
+    }
+}
@@ -1,14 +1,14 @@
 package org.zalando.guild.api.json.fields.jackson;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 
 /**
  * ContextProvider implementation using ThreadLocals. Should work for most cases, as asynchronous requests will
- * (hopefully) still be rendered synchronously.
+ * (hopefully) still be rendered synchronously. Every thread reuses a single {@link ContextStack}, so the context
+ * doesn't allocate once it has grown to the maximum depth. If serializations may move between threads, create the
+ * module without a ContextProvider and read the context with {@link SerializationContextProvider}.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
@@ -28,27 +28,39 @@ public final class ThreadLocalContextProvider implements ContextProvider {
         private Holder() { }
     }
 
-    private static final ThreadLocal<LinkedList<String>> STORE = new ThreadLocal<LinkedList<String>>() {
+    private static final ThreadLocal<ContextStack> STORE = new ThreadLocal<ContextStack>() {
         @Override
-        protected LinkedList<String> initialValue() {
-            return new LinkedList<>();
+        protected ContextStack initialValue() {
+            return new ContextStack();
         }
     };
 
+    /**
+     * Return an unmodifiable view of the current thread's context. The view is not a copy, i.e. it reflects all later
+     * changes to the context.
+     */
     @Override
     @Nonnull
     public List<String> getContext() {
-        return Collections.unmodifiableList(STORE.get());
+        return STORE.get().asList();
+    }
+
+    /**
+     * Return the current thread's context stack, e.g. for constant-time access to the depth or the current field.
+     */
+    @Nonnull
+    public ContextStack getContextStack() {
+        return STORE.get();
     }
 
     @Override
     public void pushContext(@Nonnull final String context) {
-        STORE.get().addLast(context);
+        STORE.get().push(context);
     }
 
     @Override
     public void popContext() {
-        STORE.get().removeLast();
+        STORE.get().pop();
     }
 
     @Override
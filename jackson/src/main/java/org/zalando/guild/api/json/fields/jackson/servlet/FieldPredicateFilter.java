@@ -0,0 +1,155 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Servlet Filter that resolves the FieldPredicate of every HTTP request once, before the rest of the chain is
+ * processed, stores it compiled as request attribute {@link #REQUEST_PREDICATE_ATTRIBUTE} and binds the request to the
+ * {@link RequestScope} until the chain has been processed. Every distinct predicate returned by the predicate function
+ * is compiled once. Use {@link #boundFieldPredicate()} as the predicate supplier of the
+ * {@link org.zalando.guild.api.json.fields.jackson.JsonFieldsModule}.
+ *
+ * <p>By default, the predicate is parsed from the request parameter "fields", or the parameter named by the init
+ * parameter {@value #PARAM_NAME_INIT_PARAMETER}. Requests without the parameter aren't parsed, and nothing is stored
+ * for them, so their responses are rendered with the always-true predicate.</p>
+ *
+ * @since  17.10.2026
+ */
+public class FieldPredicateFilter implements Filter {
+
+    /**
+     * The name of the init parameter holding the name of the request parameter to parse.
+     */
+    public static final String PARAM_NAME_INIT_PARAMETER = "paramName";
+
+    /**
+     * The name of the servlet request attribute holding the resolved FieldPredicate. Not to be confused with the
+     * serialization attribute
+     * {@link org.zalando.guild.api.json.fields.jackson.JsonFieldsModule#REQUEST_PREDICATE_ATTRIBUTE}.
+     */
+    public static final String REQUEST_PREDICATE_ATTRIBUTE = FieldPredicateFilter.class.getName() + ".predicate";
+
+    /**
+     * The maximum number of distinct predicates whose compiled form is kept.
+     */
+    private static final int MAX_COMPILED_PREDICATES = 256;
+
+    private static final Supplier<FieldPredicate> BOUND_FIELD_PREDICATE = new Supplier<FieldPredicate>() {
+        @Override
+        public FieldPredicate get() {
+            if (!RequestScope.isBound()) {
+                return FieldPredicates.alwaysTrue();
+            }
+
+            final Object predicate = RequestScope.getInstance().get().getAttribute(REQUEST_PREDICATE_ATTRIBUTE);
+            return predicate instanceof FieldPredicate ? (FieldPredicate) predicate : FieldPredicates.alwaysTrue();
+        }
+
+        @Override
+        public String toString() {
+            return "FieldPredicateFilter.boundFieldPredicate()";
+        }
+    };
+
+    private final boolean configurable;
+    private Function<HttpServletRequest, FieldPredicate> predicateFunction;
+
+    /**
+     * Compiled predicates by the identity of the predicates returned by the function, so that a predicate function
+     * returning cached predicates gets each of them compiled once, and the same compiled instance for every request.
+     */
+    private final Cache<FieldPredicate, FieldPredicate> compiled = CacheBuilder.newBuilder().weakKeys()
+                                                                               .maximumSize(MAX_COMPILED_PREDICATES)
+                                                                               .build();
+
+    /**
+     * Create a filter that parses the request parameter "fields", unless the init parameter
+     * {@value #PARAM_NAME_INIT_PARAMETER} names another one.
+     */
+    public FieldPredicateFilter() {
+        this.predicateFunction = ParamBasedPredicateFunction.paramBasedPredicateFunctionWithDefaultName();
+        this.configurable = true;
+    }
+
+    /**
+     * Create a filter that resolves predicates with the supplied function. Init parameters are ignored.
+     */
+    public FieldPredicateFilter(@Nonnull final Function<HttpServletRequest, FieldPredicate> predicateFunction) {
+        this.predicateFunction = checkNotNull(predicateFunction, "PredicateFunction required");
+        this.configurable = false;
+    }
+
+    /**
+     * Return a supplier of the predicate resolved for the request bound to the {@link RequestScope}, or the
+     * always-true predicate if there is none.
+     */
+    @Nonnull
+    public static Supplier<FieldPredicate> boundFieldPredicate() {
+        return BOUND_FIELD_PREDICATE;
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) {
+        final String paramName = filterConfig.getInitParameter(PARAM_NAME_INIT_PARAMETER);
+        if (configurable && paramName != null) {
+            predicateFunction = ParamBasedPredicateFunction.paramBasedPredicateFunctionWithCustomName(paramName);
+        }
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+        throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final HttpServletRequest httpRequest = (HttpServletRequest) request;
+        final FieldPredicate predicate = compile(predicateFunction.apply(httpRequest));
+        if (predicate != FieldPredicates.alwaysTrue()) {
+            httpRequest.setAttribute(REQUEST_PREDICATE_ATTRIBUTE, predicate);
+        }
+
+        try(RequestScope.Binding binding = RequestScope.bind(httpRequest)) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private FieldPredicate compile(final FieldPredicate predicate) {
+        if (predicate == FieldPredicates.alwaysTrue()) {
+            return predicate;
+        }
+
+        FieldPredicate result = compiled.getIfPresent(predicate);
+        if (result == null) {
+            result = FieldPredicates.compile(predicate);
+            compiled.put(predicate, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void destroy() { }
+}
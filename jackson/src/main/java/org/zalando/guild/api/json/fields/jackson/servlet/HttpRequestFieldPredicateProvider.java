@@ -2,6 +2,8 @@ package org.zalando.guild.api.json.fields.jackson.servlet;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import javax.annotation.Nonnull;
 
 import javax.servlet.http.HttpServletRequest;
@@ -12,19 +14,39 @@ import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 
 /**
- * FieldPredicate supplier that gets the predicate from a HttpServletRequest supplier and a Transformer function.
+ * FieldPredicate supplier that gets the predicate from a HttpServletRequest supplier and a Transformer function. The
+ * predicate is resolved at most once per request and then kept as a request attribute of this provider, so providers
+ * with different functions don't see each other's predicates.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
  */
 public class HttpRequestFieldPredicateProvider implements Supplier<FieldPredicate> {
+
+    private static final AtomicLong INSTANCES = new AtomicLong();
+
     private final Supplier<HttpServletRequest> requestSupplier;
     private final Function<HttpServletRequest, FieldPredicate> predicateFunction;
 
+    /**
+     * The name of the request attribute holding the predicate resolved by this provider.
+     */
+    private final String attribute;
+
     private HttpRequestFieldPredicateProvider(final Supplier<HttpServletRequest> requestSupplier,
             final Function<HttpServletRequest, FieldPredicate> predicateFunction) {
         this.requestSupplier = requestSupplier;
         this.predicateFunction = predicateFunction;
+        this.attribute = HttpRequestFieldPredicateProvider.class.getName() + '#' + INSTANCES.incrementAndGet();
+    }
+
+    /**
+     * Return a provider that gets the request from the {@link RequestScope}, see {@link RequestScopeFilter}.
+     */
+    @Nonnull
+    public static HttpRequestFieldPredicateProvider httpRequestFieldPredicateProvider(
+            @Nonnull final Function<HttpServletRequest, FieldPredicate> predicateFunction) {
+        return httpRequestFieldPredicateProvider(RequestScope.getInstance(), predicateFunction);
     }
 
     @Nonnull
@@ -39,6 +61,14 @@ public class HttpRequestFieldPredicateProvider implements Supplier<FieldPredicat
     @Override
     @Nonnull
     public FieldPredicate get() {
-        return predicateFunction.apply(requestSupplier.get());
+        final HttpServletRequest request = requestSupplier.get();
+        final Object resolved = request.getAttribute(attribute);
+        if (resolved instanceof FieldPredicate) {
+            return (FieldPredicate) resolved;
+        }
+
+        final FieldPredicate predicate = predicateFunction.apply(request);
+        request.setAttribute(attribute, predicate);
+        return predicate;
     }
 }
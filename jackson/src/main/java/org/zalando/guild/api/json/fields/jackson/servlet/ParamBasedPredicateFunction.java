@@ -1,34 +1,49 @@
 package org.zalando.guild.api.json.fields.jackson.servlet;
 
-import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.zalando.guild.api.json.fields.java.expression.FieldPredicateCache;
+import org.zalando.guild.api.json.fields.java.expression.FieldPredicateCaches;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
 
 import com.google.common.base.Function;
 
 /**
- * A Predicate Function that parses a FieldPredicate from a request parameter.
+ * A Predicate Function that parses a FieldPredicate from a request parameter. Parsed expressions are kept in a
+ * {@link FieldPredicateCache}, by default a bounded cache of {@value #DEFAULT_CACHE_SIZE} expressions.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
  */
 public class ParamBasedPredicateFunction implements Function<HttpServletRequest, FieldPredicate> {
 
+    /**
+     * The maximum number of expressions cached by default.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
     private static final String DEFAULT_PARAM_NAME = "fields";
     private final String paramName;
+    private final FieldPredicateCache cache;
 
     /**
      * Protected to allow subclassing.
      */
-    protected ParamBasedPredicateFunction(final String paramName) {
+    protected ParamBasedPredicateFunction(final String paramName, final FieldPredicateCache cache) {
         this.paramName = paramName;
+        this.cache = cache;
+    }
+
+    /**
+     * Protected to allow subclassing.
+     */
+    protected ParamBasedPredicateFunction(final String paramName) {
+        this(paramName, FieldPredicateCaches.boundedCache(DEFAULT_CACHE_SIZE));
     }
 
     /**
@@ -56,6 +71,26 @@ public class ParamBasedPredicateFunction implements Function<HttpServletRequest,
         return new ParamBasedPredicateFunction(paramName);
     }
 
+    /**
+     * Return a Predicate Function that maps the supplied query parameter to a FieldPredicate, caching parsed
+     * expressions in the supplied cache.
+     */
+    @Nonnull
+    public static ParamBasedPredicateFunction paramBasedPredicateFunctionWithCustomCache(
+            @Nonnull final String paramName, @Nonnull final FieldPredicateCache cache) {
+        checkNotNull(paramName, "ParamName required");
+        checkNotNull(cache, "Cache required");
+        return new ParamBasedPredicateFunction(paramName, cache);
+    }
+
+    /**
+     * Return the cache of parsed expressions, e.g. to monitor its statistics.
+     */
+    @Nonnull
+    public final FieldPredicateCache getCache() {
+        return cache;
+    }
+
     /**
      * Open-closed principle.
      */
@@ -68,7 +103,7 @@ public class ParamBasedPredicateFunction implements Function<HttpServletRequest,
 
         if (parameterValue != null) {
             try {
-                return parseFieldsExpressionOrFail(parameterValue);
+                return cache.parseFieldsExpressionOrFail(parameterValue);
             } catch (IllegalArgumentException e) {
                 return handleExpressionFailure(parameterValue, e);
             }
@@ -80,7 +115,10 @@ public class ParamBasedPredicateFunction implements Function<HttpServletRequest,
 
     /**
      * If you want custom error handling for illegal expressions, override this method. The default behavior is to
-     * return a FieldPredicate that never matches.
+     * return a FieldPredicate that never matches. Expressions that exceed the
+     * {@link org.zalando.guild.api.json.fields.java.expression.ExpressionLimits} of the cache are passed in with an
+     * {@link org.zalando.guild.api.json.fields.java.expression.ExpressionComplexityException}, e.g. to be mapped to
+     * HTTP status 400 by throwing an exception of the web framework.
      */
     @Nonnull
     protected FieldPredicate handleExpressionFailure(@Nonnull final String expression,
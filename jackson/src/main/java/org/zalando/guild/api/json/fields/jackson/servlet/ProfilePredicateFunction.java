@@ -0,0 +1,72 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.zalando.guild.api.json.fields.jackson.FieldProfiles;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+import com.google.common.base.Function;
+
+/**
+ * A Predicate Function that selects one of a set of precompiled {@link FieldProfiles} by name, from a request
+ * parameter. Requests without the parameter are passed to a fallback function, e.g. a
+ * {@link ParamBasedPredicateFunction}. As with invalid expressions, unknown profile names result in a FieldPredicate
+ * that never matches.
+ *
+ * @since  17.10.2026
+ */
+public final class ProfilePredicateFunction implements Function<HttpServletRequest, FieldPredicate> {
+
+    private static final String DEFAULT_PARAM_NAME = "profile";
+
+    private final FieldProfiles profiles;
+    private final String paramName;
+    private final Function<HttpServletRequest, FieldPredicate> fallback;
+
+    private ProfilePredicateFunction(final FieldProfiles profiles, final String paramName,
+            final Function<HttpServletRequest, FieldPredicate> fallback) {
+        this.profiles = profiles;
+        this.paramName = paramName;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Return a Predicate Function that maps the query parameter "profile" to the predicate of the named profile.
+     */
+    @Nonnull
+    public static ProfilePredicateFunction profilePredicateFunction(@Nonnull final FieldProfiles profiles,
+            @Nonnull final Function<HttpServletRequest, FieldPredicate> fallback) {
+        return profilePredicateFunction(profiles, DEFAULT_PARAM_NAME, fallback);
+    }
+
+    /**
+     * Return a Predicate Function that maps the supplied query parameter to the predicate of the named profile.
+     */
+    @Nonnull
+    public static ProfilePredicateFunction profilePredicateFunction(@Nonnull final FieldProfiles profiles,
+            @Nonnull final String paramName, @Nonnull final Function<HttpServletRequest, FieldPredicate> fallback) {
+        checkNotNull(profiles, "Profiles required");
+        checkNotNull(paramName, "ParamName required");
+        checkNotNull(fallback, "Fallback required");
+        return new ProfilePredicateFunction(profiles, paramName, fallback);
+    }
+
+    @Nonnull
+    @Override
+    public FieldPredicate apply(@Nonnull final HttpServletRequest request) {
+        checkNotNull(request, "Request required");
+
+        final String profile = request.getParameter(paramName);
+        if (profile == null) {
+            return fallback.apply(request);
+        }
+
+        final FieldPredicate predicate = profiles.getPredicate(profile);
+        return predicate == null ? FieldPredicates.alwaysFalse() : predicate;
+    }
+}
@@ -0,0 +1,117 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.google.common.base.Supplier;
+
+/**
+ * Supplies the HttpServletRequest bound to the current scope. A request is bound for the duration of a
+ * try-with-resources block, usually by the {@link RequestScopeFilter}:
+ *
+ * <pre>
+   try(RequestScope.Binding binding = RequestScope.bind(request)) {
+       chain.doFilter(request, response);
+   }
+ * </pre>
+ *
+ * <p>Closing the binding restores the previous binding, if any, and otherwise leaves no state behind, so there is
+ * nothing to leak when a thread, e.g. a virtual thread per request, ends or is reused. The scope is confined to the
+ * thread that created the binding, so work handed over to other threads (e.g. asynchronous request processing) has to
+ * bind the request again, or pass the predicate per call, see
+ * {@link org.zalando.guild.api.json.fields.jackson.JsonFieldsModule#FIELD_PREDICATE_ATTRIBUTE}.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class RequestScope implements Supplier<HttpServletRequest> {
+
+    private static final ThreadLocal<HttpServletRequest> CURRENT = new ThreadLocal<>();
+
+    private RequestScope() { }
+
+    @Nonnull
+    public static RequestScope getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    static final class Holder {
+
+        public static final RequestScope INSTANCE = new RequestScope();
+
+        private Holder() { }
+    }
+
+    /**
+     * Bind the supplied request to the current scope until the returned binding is closed.
+     */
+    @Nonnull
+    public static Binding bind(@Nonnull final HttpServletRequest request) {
+        checkNotNull(request, "Request required");
+
+        final Binding binding = new Binding(request, CURRENT.get());
+        CURRENT.set(request);
+        return binding;
+    }
+
+    /**
+     * Return whether a request is bound to the current scope.
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Return the request bound to the current scope.
+     *
+     * @exception  IllegalStateException  if no request is bound
+     */
+    @Override
+    @Nonnull
+    public HttpServletRequest get() {
+        final HttpServletRequest request = CURRENT.get();
+        checkState(request != null, "No request bound to the current scope");
+        return request;
+    }
+
+    /**
+     * The binding of a request to a scope. Closing it more than once has no effect.
+     */
+    public static final class Binding implements AutoCloseable {
+        private final HttpServletRequest request;
+        private final HttpServletRequest previous;
+        private final Thread thread = Thread.currentThread();
+        private boolean closed;
+
+        private Binding(final HttpServletRequest request, @Nullable final HttpServletRequest previous) {
+            this.request = request;
+            this.previous = previous;
+        }
+
+        /**
+         * Restore the previous binding of the scope.
+         *
+         * @exception  IllegalStateException  if called from another thread than the one that created the binding, or
+         *                                    if a nested binding hasn't been closed
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+
+            checkState(thread == Thread.currentThread(), "Binding must be closed by the thread that created it");
+            checkState(CURRENT.get() == request, "Nested binding must be closed first");
+            closed = true;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
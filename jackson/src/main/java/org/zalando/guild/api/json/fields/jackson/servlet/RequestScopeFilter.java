@@ -0,0 +1,39 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Servlet Filter that binds every HTTP request to the {@link RequestScope} while the rest of the chain is processed,
+ * and unbinds it afterwards, even if processing fails.
+ *
+ * @since  17.10.2026
+ */
+public class RequestScopeFilter implements Filter {
+
+    @Override
+    public void init(final FilterConfig filterConfig) { }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+        throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try(RequestScope.Binding binding = RequestScope.bind((HttpServletRequest) request)) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    @Override
+    public void destroy() { }
+}
@@ -11,9 +11,12 @@ import com.google.common.base.Supplier;
 /**
  * Request Provider that uses ThreadLocals. This obviously won't work in an asynchronous environment.
  *
+ * @deprecated  use {@link RequestScope} with the {@link RequestScopeFilter}, which can't leak the request
+ *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   23.09.2015
  */
+@Deprecated
 public final class ThreadLocalRequestProvider implements Supplier<HttpServletRequest> {
 
     private static final ThreadLocal<HttpServletRequest> REQUEST = new ThreadLocal<>();
@@ -0,0 +1,63 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @since  17.10.2026
+ */
+public class ContextStackTest {
+
+    @Test
+    public void pushAndPop() {
+        final ContextStack stack = new ContextStack();
+        final List<String> view = stack.asList();
+
+        stack.push("foo");
+        stack.push("bar");
+        assertThat(stack.depth(), is(2));
+        assertThat(stack.top(), is("bar"));
+        assertThat(view, is(asList("foo", "bar")));
+
+        stack.pop();
+        assertThat(stack.depth(), is(1));
+        assertThat(stack.top(), is("foo"));
+        assertThat(view, is(asList("foo")));
+
+        stack.clear();
+        assertThat(stack.depth(), is(0));
+        assertThat(view.isEmpty(), is(true));
+    }
+
+    @Test
+    public void growsBeyondInitialCapacity() {
+        final ContextStack stack = new ContextStack();
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            stack.push("field" + i);
+            expected.add("field" + i);
+        }
+
+        assertThat(stack.asList(), is(expected));
+        assertThat(stack.top(), is("field99"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewIsUnmodifiable() {
+        final ContextStack stack = new ContextStack();
+        stack.asList().add("foo");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void popOnEmptyStack() {
+        new ContextStack().pop();
+    }
+}
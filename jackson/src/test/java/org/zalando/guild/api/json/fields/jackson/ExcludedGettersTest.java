@@ -0,0 +1,184 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Verifies that {@link FilteringMode#SERIALIZER_MODIFIER} never calls getters of excluded properties.
+ *
+ * @since  17.10.2026
+ */
+public class ExcludedGettersTest {
+
+    private static final String CUSTOM_FILTER_ID = "custom";
+
+    private FieldPredicate predicate;
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        final Supplier<FieldPredicate> predicateSupplier = new Supplier<FieldPredicate>() {
+            @Nonnull
+            @Override
+            public FieldPredicate get() {
+                return predicate;
+            }
+        };
+        final JsonFieldsAnnotationIntrospector introspector = new JsonFieldsAnnotationIntrospector() {
+            @Override
+            public Object findFilterId(final Annotated ann) {
+                if (ann.getRawType() == Filtered.class) {
+                    return CUSTOM_FILTER_ID;
+                }
+
+                return super.findFilterId(ann);
+            }
+        };
+        objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModuleWithCustomIntrospector(
+                    predicateSupplier, ThreadLocalContextProvider.getInstance(), introspector,
+                    FilteringMode.SERIALIZER_MODIFIER));
+        ((JsonFieldsFilterProvider) objectMapper.getSerializationConfig().getFilterProvider()).addFilter(
+            CUSTOM_FILTER_ID, SimpleBeanPropertyFilter.serializeAllExcept("hidden"));
+    }
+
+    @Test
+    public void regularProperties() throws JsonProcessingException {
+        assertThat(render("(id,nested(id))", new Entity()), is("{\"id\":1,\"nested\":{\"id\":2}}"));
+        assertThat(render("!(lazy,details,filtered,nested)", new Entity()), is("{\"id\":1}"));
+    }
+
+    @Test
+    public void anyGetters() throws JsonProcessingException {
+        final AnyGetterEntity entity = new AnyGetterEntity();
+        assertThat(render("(id)", entity), is("{\"id\":1}"));
+        assertThat(entity.anyGetterCalls, is(0));
+
+        assertThat(render("(id,color)", entity), is("{\"id\":1,\"color\":\"red\"}"));
+        assertThat(render("!(size)", entity), is("{\"id\":1,\"color\":\"red\"}"));
+        assertThat(entity.anyGetterCalls, is(2));
+    }
+
+    @Test
+    public void unwrappedProperties() throws JsonProcessingException {
+        assertThat(render("(id,details(cheap))", new Entity()), is("{\"id\":1,\"cheap\":\"cheap\"}"));
+    }
+
+    @Test
+    public void delegatingFilters() throws JsonProcessingException {
+        assertThat(render("(id,filtered(name))", new Entity()), is("{\"id\":1,\"filtered\":{\"name\":\"name\"}}"));
+        assertThat(render("(id,filtered(name,hidden))", new Entity()),
+            is("{\"id\":1,\"filtered\":{\"name\":\"name\"}}"));
+    }
+
+    private String render(final String expression, final Object value) throws JsonProcessingException {
+        predicate = parseFieldsExpressionOrFail(expression);
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static <T> T lazyLoad() {
+        throw new AssertionError("Getter of excluded property called");
+    }
+
+    @JsonPropertyOrder({ "id", "lazy", "details", "filtered", "nested" })
+    public static class Entity {
+        private final int id;
+
+        public Entity() {
+            this(1);
+        }
+
+        Entity(final int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getLazy() {
+            return lazyLoad();
+        }
+
+        @JsonUnwrapped
+        public Details getDetails() {
+            return new Details();
+        }
+
+        public Filtered getFiltered() {
+            return new Filtered();
+        }
+
+        public Entity getNested() {
+            if (id > 1) {
+                return lazyLoad();
+            }
+
+            return new Entity(2);
+        }
+    }
+
+    public static class Details {
+        public String getCheap() {
+            return "cheap";
+        }
+
+        public String getExpensive() {
+            return lazyLoad();
+        }
+    }
+
+    public static class Filtered {
+        public String getName() {
+            return "name";
+        }
+
+        public String getHidden() {
+            return lazyLoad();
+        }
+
+        public String getLazy() {
+            return lazyLoad();
+        }
+    }
+
+    public static class AnyGetterEntity {
+        private int anyGetterCalls;
+
+        public int getId() {
+            return 1;
+        }
+
+        @JsonAnyGetter
+        public Map<String, Object> getAttributes() {
+            anyGetterCalls++;
+            return ImmutableMap.<String, Object>of("color", "red");
+        }
+
+        public String getSize() {
+            return lazyLoad();
+        }
+    }
+}
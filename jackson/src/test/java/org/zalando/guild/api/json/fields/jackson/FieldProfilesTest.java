@@ -0,0 +1,149 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * @since  17.10.2026
+ */
+public class FieldProfilesTest {
+
+    private static final FieldProfiles PROFILES = FieldProfiles.fieldProfiles(ImmutableMap.of( //
+                "mobile", "(id,customer(name))",                                             //
+                "partner", "(id,lines(sku))"));
+
+    @Test
+    public void expressionsAreParsedEagerly() {
+        assertThat(PROFILES.getNames().toString(), is("[mobile, partner]"));
+        assertThat(PROFILES.getPredicate("mobile").toString(), is("(id,customer(name))"));
+        assertThat(PROFILES.getPredicateOrFail("partner").apply(Arrays.asList("lines", "sku")), is(true));
+        assertThat(PROFILES.getPredicateOrFail("partner").apply(Arrays.asList("lines", "price")), is(false));
+    }
+
+    @Test
+    public void invalidExpressionsFailAtStartup() {
+        final Map<String, String> expressions = new LinkedHashMap<>();
+        expressions.put("valid", "(id)");
+        expressions.put("broken", "(id");
+        try {
+            FieldProfiles.fieldProfiles(expressions);
+            fail("Invalid expression accepted");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("'broken'"));
+        }
+    }
+
+    @Test
+    public void unknownProfiles() {
+        assertThat(PROFILES.getPredicate("desktop"), is(nullValue()));
+        try {
+            PROFILES.getPredicateOrFail("desktop");
+            fail("Unknown profile accepted");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("'desktop'"));
+        }
+    }
+
+    @Test
+    public void profilesAreSelectedByAttribute() throws Exception {
+        for (final FilteringMode filteringMode : FilteringMode.values()) {
+            final ObjectMapper objectMapper = objectMapper(filteringMode);
+
+            assertThat(filteringMode.name(),
+                objectMapper.writer().withAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE, "mobile").writeValueAsString(
+                    new Order()), is("{\"id\":42,\"customer\":{\"name\":\"Jane\"}}"));
+            assertThat(filteringMode.name(),
+                objectMapper.writer().withAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE, "partner").writeValueAsString(
+                    new Order()), is("{\"id\":42,\"lines\":[{\"sku\":\"SKU-1\"}]}"));
+
+            // an explicit predicate takes precedence
+            assertThat(filteringMode.name(),
+                objectMapper.writer().withAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE, "mobile")
+                            .withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE,
+                                parseFieldsExpressionOrFail("(id)")).writeValueAsString(new Order()),
+                is("{\"id\":42}"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownProfileAttributesFail() throws Throwable {
+        try {
+            objectMapper(FilteringMode.SERIALIZER_MODIFIER).writer()
+                                                           .withAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE,
+                                                               "desktop").writeValueAsString(new Order());
+        } catch (Exception e) {
+            Throwable cause = e;
+            while (!(cause instanceof IllegalArgumentException) && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            throw cause;
+        }
+    }
+
+    @Test
+    public void preparedSerializersAreReused() throws Exception {
+        for (final FilteringMode filteringMode : FilteringMode.values()) {
+            final JsonFieldsModule module = module(filteringMode);
+            final ObjectMapper objectMapper = new ObjectMapper().registerModule(module);
+            module.prepare(objectMapper, Order.class);
+
+            final DefaultSerializerProvider serializerProvider = (DefaultSerializerProvider)
+                objectMapper.getSerializerProvider();
+            final int prepared = serializerProvider.cachedSerializersCount();
+            for (final String profile : PROFILES.getNames()) {
+                objectMapper.writer().withAttribute(JsonFieldsModule.PROFILE_ATTRIBUTE, profile).writeValueAsString(
+                    new Order());
+            }
+
+            assertThat(filteringMode.name(), serializerProvider.cachedSerializersCount(), is(prepared));
+        }
+    }
+
+    private static ObjectMapper objectMapper(final FilteringMode filteringMode) {
+        return new ObjectMapper().registerModule(module(filteringMode));
+    }
+
+    private static JsonFieldsModule module(final FilteringMode filteringMode) {
+        return JsonFieldsModule.createJsonFieldsModule(Suppliers.<FieldPredicate>ofInstance(alwaysTrue()),
+                                   filteringMode).withProfiles(PROFILES);
+    }
+
+    public static class Customer {
+        public String name = "Jane";
+        public String email = "jane@example.com";
+    }
+
+    public static class Line {
+        public String sku = "SKU-1";
+        public int price = 1999;
+    }
+
+    public static class Order {
+        public long id = 42;
+        public Customer customer = new Customer();
+        public Line[] lines = {new Line()};
+    }
+}
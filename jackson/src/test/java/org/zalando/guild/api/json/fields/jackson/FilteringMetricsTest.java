@@ -0,0 +1,66 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.metrics.InMemoryMetrics.inMemoryMetrics;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.metrics.InMemoryMetrics;
+import org.zalando.guild.api.json.fields.java.metrics.Metrics;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Suppliers;
+
+/**
+ * @since  17.10.2026
+ */
+public class FilteringMetricsTest {
+
+    @After
+    public void disableMetrics() {
+        Metrics.install(Metrics.noOp());
+    }
+
+    @Test
+    public void filteredPropertiesAreReportedInAllModes() throws Exception {
+        for (final FilteringMode filteringMode : FilteringMode.values()) {
+            final InMemoryMetrics metrics = inMemoryMetrics();
+            Metrics.install(metrics);
+
+            final ObjectMapper objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(
+                        Suppliers.<FieldPredicate>ofInstance(alwaysTrue()), filteringMode));
+            assertThat(filteringMode.name(),
+                objectMapper.writer().withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE,
+                    parseFieldsExpressionOrFail("(id,customer(name))")).writeValueAsString(new Order()),
+                is("{\"id\":42,\"customer\":{\"name\":\"Jane\"}}"));
+
+            assertThat(filteringMode.name(), metrics.getPropertiesEvaluated(), is(5L));
+            assertThat(filteringMode.name(), metrics.getPropertiesIncluded(), is(3L));
+            assertThat(filteringMode.name(), metrics.getMaxDepth(), is(2));
+
+            // nothing is evaluated if everything is included
+            metrics.reset();
+            objectMapper.writeValueAsString(new Order());
+            assertThat(filteringMode.name(), metrics.getPropertiesEvaluated(), is(0L));
+        }
+    }
+
+    public static class Customer {
+        public String name = "Jane";
+        public String email = "jane@example.com";
+    }
+
+    public static class Order {
+        public long id = 42;
+        public Customer customer = new Customer();
+        public String note = "fragile";
+    }
+}
@@ -10,6 +10,7 @@ import static org.hamcrest.core.Is.is;
 
 import static org.junit.Assert.assertThat;
 
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpression;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
@@ -18,6 +19,10 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,6 +33,11 @@ import javax.annotation.Nonnull;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.junit.runner.RunWith;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
 import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
 
@@ -45,8 +55,25 @@ import com.jayway.jsonassert.JsonAsserter;
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   24.09.2015
  */
+@RunWith(Parameterized.class)
 public class JsonFieldsModuleTest {
 
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> filteringModes() {
+        final List<Object[]> result = new ArrayList<>();
+        for (final FilteringMode filteringMode : FilteringMode.values()) {
+            result.add(new Object[] {filteringMode});
+        }
+
+        return result;
+    }
+
+    private final FilteringMode filteringMode;
+
+    public JsonFieldsModuleTest(final FilteringMode filteringMode) {
+        this.filteringMode = filteringMode;
+    }
+
     private static final ThreadLocal<FieldPredicate> PREDICATE = new InheritableThreadLocal<FieldPredicate>() {
         @Override
         protected FieldPredicate initialValue() {
@@ -73,7 +100,8 @@ public class JsonFieldsModuleTest {
         };
 
         final ContextProvider contextProvider = ThreadLocalContextProvider.getInstance();
-        objectMapper.registerModule(JsonFieldsModule.createJsonFieldsModule(predicateSupplier, contextProvider));
+        objectMapper.registerModule(JsonFieldsModule.createJsonFieldsModule(predicateSupplier, contextProvider,
+                filteringMode));
     }
 
     static class Outer {
@@ -132,6 +160,67 @@ public class JsonFieldsModuleTest {
         return jsonAsserter;
     }
 
+    @Test
+    public void decisionsAreReusedAcrossObjectsAndSerializations() throws JsonProcessingException {
+        final AtomicInteger applications = new AtomicInteger();
+        PREDICATE.set(new FieldPredicate() {
+                @Override
+                public boolean apply(final List<String> fields) {
+                    applications.incrementAndGet();
+                    return !fields.contains("bar");
+                }
+            });
+
+        final List<Outer> list = Collections.nCopies(100, new Outer());
+        objectMapper.writeValueAsString(list);
+        objectMapper.writeValueAsString(list);
+
+        // foo, foo2, foo.bar, foo.bar2
+        assertThat(applications.get(), is(4));
+    }
+
+    @Test
+    public void includedSubtreesAreNotFiltered() throws JsonProcessingException {
+        final AtomicInteger pushes = new AtomicInteger();
+        final ContextProvider contextProvider = new ContextProvider() {
+            @Nonnull
+            @Override
+            public List<String> getContext() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void pushContext(@Nonnull final String context) {
+                pushes.incrementAndGet();
+            }
+
+            @Override
+            public void popContext() { }
+
+            @Override
+            public void clear() { }
+        };
+        final ObjectMapper countingObjectMapper = new ObjectMapper().setVisibility(PropertyAccessor.FIELD,
+                    Visibility.ANY);
+        countingObjectMapper.registerModule(JsonFieldsModule.createJsonFieldsModule(new Supplier<FieldPredicate>() {
+                    @Nonnull
+                    @Override
+                    public FieldPredicate get() {
+                        return PREDICATE.get();
+                    }
+                }, contextProvider, filteringMode));
+
+        final String plainJson = new ObjectMapper().setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+                                                   .writeValueAsString(outer);
+        PREDICATE.set(alwaysTrue());
+        assertThat(countingObjectMapper.writeValueAsString(outer), is(plainJson));
+        assertThat(pushes.get(), is(0));
+
+        PREDICATE.set(parseFieldsExpression("(foo)"));
+        countingObjectMapper.writeValueAsString(outer);
+        assertThat(pushes.get(), is(1));
+    }
+
     @Test
     public void singleThreadEnvironment() {
         task(1000).run();
@@ -183,6 +272,7 @@ public class JsonFieldsModuleTest {
             noFieldsEnabled();
             simpleMatch();
             complicatedMatch();
+            parsedExpression();
 
             runs.incrementAndGet();
         }
@@ -195,6 +285,14 @@ public class JsonFieldsModuleTest {
                               .assertThat("$.foo.bar2", is(123));       //
         }
 
+        private void parsedExpression() {
+            PREDICATE.set(parseFieldsExpression("(foo(bar!(phleem)),foo2)"));
+            asserterFor(outer).assertThat("$.foo2", is("FOO2"))                 //
+                              .assertThat("$.foo.bar.baz", is("BAZ"))           //
+                              .assertThat("$.foo.bar.phleem", is(nullValue()))  //
+                              .assertThat("$.foo.bar2", is(nullValue()));       //
+        }
+
         private void simpleMatch() {
             PREDICATE.set(matchIndex(1, "bar"));
             asserterFor(outer).assertThat("$.foo2", is("FOO2"))          //
@@ -0,0 +1,139 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.JsonStreamFilter.jsonStreamFilter;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * @since  17.10.2026
+ */
+public class JsonStreamFilterTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String JSON = "{\"id\":1,\"name\":\"foo\",\"price\":{\"amount\":12.50,\"currency\":\"EUR\"},"
+            + "\"lines\":[{\"sku\":\"a\",\"quantity\":1},{\"sku\":\"b\",\"quantity\":2}],\"empty\":null}";
+
+    @Test
+    public void whitelist() throws IOException {
+        assertThat(filter("(id,price(amount),lines(sku))", JSON),
+            is("{\"id\":1,\"price\":{\"amount\":12.50},\"lines\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]}"));
+    }
+
+    @Test
+    public void blacklist() throws IOException {
+        assertThat(filter("!(name,price,lines,empty)", JSON), is("{\"id\":1}"));
+        assertThat(filter("!(name,price,lines(quantity),empty)", JSON), is("{\"id\":1}"));
+    }
+
+    @Test
+    public void constants() throws IOException {
+        assertThat(filter(alwaysTrue(), JSON), is(JSON));
+        assertThat(filter(alwaysFalse(), JSON), is("{}"));
+    }
+
+    @Test
+    public void uncompiledPredicates() throws IOException {
+        assertThat(filter(matchIndex(1, "sku"), JSON),
+            is("{\"id\":1,\"name\":\"foo\",\"price\":{},\"lines\":[{\"sku\":\"a\"},{\"sku\":\"b\"}],"
+                + "\"empty\":null}"));
+    }
+
+    @Test
+    public void rootLevelValues() throws IOException {
+        assertThat(filter("(id)", "[{\"id\":1,\"name\":\"a\"},{\"id\":2}] 42 {\"name\":\"b\"}"),
+            is("[{\"id\":1},{\"id\":2}] 42 {}"));
+    }
+
+    @Test
+    public void maximumDepth() throws IOException {
+        final String json = Strings.repeat("[", JsonStreamFilter.MAX_DEPTH) + Strings.repeat("]",
+                JsonStreamFilter.MAX_DEPTH);
+        assertThat(filter(alwaysTrue(), json), is(json));
+        assertThat(filter("!(foo)", "{\"foo\":" + json + "}"), is("{}"));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void excessiveDepthIsRejected() throws IOException {
+        filter(alwaysTrue(),
+            Strings.repeat("[", JsonStreamFilter.MAX_DEPTH + 1) + Strings.repeat("]", JsonStreamFilter.MAX_DEPTH + 1));
+    }
+
+    @Test
+    public void sameOutputAsSerialization() throws IOException {
+        final Map<String, Object> value = ImmutableMap.<String, Object>of( //
+                "customer", new Customer(),                                //
+                "customers", Arrays.asList(new Customer(), new Customer()), //
+                "status", "OPEN");
+        final String json = new ObjectMapper().writeValueAsString(value);
+
+        for (final String expression : Arrays.asList("(status)", "(customer(name),customers(address(city)))",
+                    "!(customer(address),customers)", "(customers!(address(street)))")) {
+            final FieldPredicate predicate = parseFieldsExpressionOrFail(expression);
+            final ObjectMapper objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(
+                        new Supplier<FieldPredicate>() {
+                            @Nonnull
+                            @Override
+                            public FieldPredicate get() {
+                                return predicate;
+                            }
+                        }, ThreadLocalContextProvider.getInstance()));
+            assertEquals(expression, objectMapper.writeValueAsString(value), filter(predicate, json));
+        }
+    }
+
+    private static String filter(final String expression, final String json) throws IOException {
+        return filter(parseFieldsExpressionOrFail(expression), json);
+    }
+
+    private static String filter(final FieldPredicate predicate, final String json) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try(JsonParser parser = JSON_FACTORY.createParser(json);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            jsonStreamFilter(predicate).filter(parser, generator);
+        }
+
+        return writer.toString();
+    }
+
+    public static class Address {
+        public String street = "Main Street";
+        public String city = "Berlin";
+    }
+
+    public static class Customer {
+        public String name = "Jane";
+        public List<String> tags = Arrays.asList("new", "vip");
+        public Address address = new Address();
+    }
+}
@@ -0,0 +1,96 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.JsonStreamFilter.jsonStreamFilter;
+import static org.zalando.guild.api.json.fields.jackson.JsonTreeFilter.jsonTreeFilter;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @since  17.10.2026
+ */
+public class JsonTreeFilterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String JSON = "{\"id\":1,\"customer\":{\"name\":\"Jane\",\"email\":\"jane@example.com\"},"
+            + "\"lines\":[{\"sku\":\"a\",\"quantity\":1},{\"sku\":\"b\",\"quantity\":2}],\"status\":\"OPEN\"}";
+
+    @Test
+    public void copySharesUntouchedSubtrees() throws IOException {
+        final JsonNode tree = OBJECT_MAPPER.readTree(JSON);
+        final JsonNode filtered = jsonTreeFilter(parseFieldsExpressionOrFail("(customer,lines(sku))")).filter(tree);
+
+        assertThat(filtered.toString(),
+            is("{\"customer\":{\"name\":\"Jane\",\"email\":\"jane@example.com\"},\"lines\":[{\"sku\":\"a\"},"
+                + "{\"sku\":\"b\"}]}"));
+        assertThat(filtered.get("customer"), is(sameInstance(tree.get("customer"))));
+        assertThat(tree, is(OBJECT_MAPPER.readTree(JSON)));
+    }
+
+    @Test
+    public void copyReturnsSameTreeIfNothingIsExcluded() throws IOException {
+        final JsonNode tree = OBJECT_MAPPER.readTree(JSON);
+
+        assertThat(jsonTreeFilter(alwaysTrue()).filter(tree), is(sameInstance(tree)));
+        assertThat(jsonTreeFilter(parseFieldsExpressionOrFail("!(phleem)")).filter(tree), is(sameInstance(tree)));
+    }
+
+    @Test
+    public void pruneInPlace() throws IOException {
+        final JsonNode tree = OBJECT_MAPPER.readTree(JSON);
+        final JsonNode customer = tree.get("customer");
+        jsonTreeFilter(parseFieldsExpressionOrFail("!(id,customer(email),lines(quantity))")).prune(tree);
+
+        assertThat(tree.toString(), is("{\"status\":\"OPEN\"}"));
+
+        jsonTreeFilter(parseFieldsExpressionOrFail("(name)")).prune(customer);
+        assertThat(customer.toString(), is("{\"name\":\"Jane\"}"));
+    }
+
+    @Test
+    public void sameOutputAsStreamFilter() throws IOException {
+        for (final String expression : Arrays.asList("(id)", "(customer(name),lines(sku))", "!(customer)",
+                    "(lines!(quantity))", "!(lines(sku),status)")) {
+            final FieldPredicate predicate = parseFieldsExpressionOrFail(expression);
+            final String expected = streamFilter(predicate);
+
+            final JsonNode filtered = jsonTreeFilter(predicate).filter(OBJECT_MAPPER.readTree(JSON));
+            assertEquals(expression, expected, filtered.toString());
+
+            final JsonNode tree = OBJECT_MAPPER.readTree(JSON);
+            jsonTreeFilter(predicate).prune(tree);
+            assertEquals(expression, expected, tree.toString());
+        }
+    }
+
+    private static String streamFilter(final FieldPredicate predicate) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try(JsonParser parser = OBJECT_MAPPER.getFactory().createParser(JSON);
+                JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+            jsonStreamFilter(predicate).filter(parser, generator);
+        }
+
+        return writer.toString();
+    }
+}
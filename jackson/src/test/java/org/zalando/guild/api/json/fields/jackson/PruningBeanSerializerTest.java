@@ -0,0 +1,220 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.junit.Assert.assertEquals;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpression;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Verifies that {@link FilteringMode#SERIALIZER_MODIFIER} produces exactly the same output as
+ * {@link FilteringMode#PROPERTY_FILTER}.
+ *
+ * @since  17.10.2026
+ */
+public class PruningBeanSerializerTest {
+
+    private static final List<String> EXPRESSIONS = Arrays.asList( //
+            "(id)",                                                 //
+            "(id,customer(name),lines(sku),tags(a),street,extra)",  //
+            "!(customer,lines(price))",                             //
+            "(shipping(city),extra(b))",                            //
+            "(animal(name,barks))",                                 //
+            "(node(id,next(id)))",                                  //
+            "(public,internal)",                                    //
+            "(point(x))",                                           //
+            "(customer!(name))",                                    //
+            "(i*,e*,cust*(n*),l*(*))",                              //
+            "!(s*,li*(p*),b*)");
+
+    private FieldPredicate predicate;
+    private ObjectMapper filteringMapper;
+    private ObjectMapper pruningMapper;
+
+    @Before
+    public void setUp() {
+        final Supplier<FieldPredicate> predicateSupplier = new Supplier<FieldPredicate>() {
+            @Nonnull
+            @Override
+            public FieldPredicate get() {
+                return predicate;
+            }
+        };
+        filteringMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(predicateSupplier,
+                    ThreadLocalContextProvider.getInstance(), FilteringMode.PROPERTY_FILTER));
+        pruningMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(predicateSupplier,
+                    ThreadLocalContextProvider.getInstance(), FilteringMode.SERIALIZER_MODIFIER));
+    }
+
+    @Test
+    public void plainBeans() throws JsonProcessingException {
+        assertSameOutput(new Order());
+        assertSameOutput(Arrays.asList(new Order(), new Order()));
+    }
+
+    @Test
+    public void polymorphicBeans() throws JsonProcessingException {
+        assertSameOutput(new Zoo());
+    }
+
+    @Test
+    public void objectIds() throws JsonProcessingException {
+        final Node first = new Node(1);
+        final Node second = new Node(2);
+        first.next = second;
+        second.next = first;
+        assertSameOutput(new Graph(first));
+    }
+
+    @Test
+    public void arrayShape() throws JsonProcessingException {
+        assertSameOutput(new Shape());
+        assertSameOutput(new Point());
+
+        predicate = parseFieldsExpression("(point(x))");
+        assertEquals("{\"point\":{\"x\":1}}", pruningMapper.writeValueAsString(new Shape()));
+    }
+
+    @Test
+    public void views() throws JsonProcessingException {
+        for (final String expression : EXPRESSIONS) {
+            predicate = parseFieldsExpression(expression);
+            assertEquals(expression,
+                filteringMapper.writerWithView(Views.Public.class).writeValueAsString(new Viewed()),
+                pruningMapper.writerWithView(Views.Public.class).writeValueAsString(new Viewed()));
+        }
+    }
+
+    private void assertSameOutput(final Object value) throws JsonProcessingException {
+        predicate = alwaysTrue();
+        assertEquals(filteringMapper.writeValueAsString(value), pruningMapper.writeValueAsString(value));
+        for (final String expression : EXPRESSIONS) {
+            predicate = parseFieldsExpression(expression);
+            assertEquals(expression, filteringMapper.writeValueAsString(value),
+                pruningMapper.writeValueAsString(value));
+        }
+    }
+
+    public static class Customer {
+        public String name = "Jane";
+        public String email = "jane@example.com";
+    }
+
+    public static class Address {
+        public String street = "Main Street";
+        public String city = "Berlin";
+    }
+
+    public static class Line {
+        public String sku = "SKU-1";
+        public int quantity = 2;
+        public int price = 1999;
+    }
+
+    public static class Order {
+        public long id = 42;
+        public String status = "OPEN";
+        public Customer customer = new Customer();
+        public List<Line> lines = Arrays.asList(new Line(), new Line());
+        public Map<String, String> tags = ImmutableMap.of("a", "A", "b", "B");
+
+        @JsonUnwrapped
+        public Address shipping = new Address();
+
+        @JsonIgnoreProperties("email")
+        public Customer invoiceCustomer = new Customer();
+
+        @JsonAnyGetter
+        public Map<String, Object> extra() {
+            final Map<String, Object> extra = new LinkedHashMap<>();
+            extra.put("extra", "value");
+            extra.put("b", ImmutableMap.of("c", "C"));
+            return extra;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes(@JsonSubTypes.Type(value = Dog.class, name = "dog"))
+    public abstract static class Animal {
+        public String name = "Rex";
+    }
+
+    public static class Dog extends Animal {
+        public boolean barks = true;
+    }
+
+    public static class Zoo {
+        public Animal animal = new Dog();
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    public static class Node {
+        public int id;
+        public Node next;
+
+        Node(final int id) {
+            this.id = id;
+        }
+    }
+
+    public static class Graph {
+        public Node node;
+
+        Graph(final Node node) {
+            this.node = node;
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    public static class Point {
+        public int x = 1;
+        public int y = 2;
+    }
+
+    public static class Shape {
+        public Point point = new Point();
+    }
+
+    static class Views {
+        static class Public { }
+
+        static class Internal extends Public { }
+    }
+
+    public static class Viewed {
+        @JsonView(Views.Public.class)
+        public String id = "id";
+
+        @JsonView(Views.Public.class)
+        public String point = "public";
+
+        @JsonView(Views.Internal.class)
+        public String internal = "internal";
+    }
+}
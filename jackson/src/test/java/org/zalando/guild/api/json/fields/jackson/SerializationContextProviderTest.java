@@ -0,0 +1,143 @@
+package org.zalando.guild.api.json.fields.jackson;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nonnull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import com.google.common.base.Supplier;
+
+/**
+ * @since  17.10.2026
+ */
+@RunWith(Parameterized.class)
+public class SerializationContextProviderTest {
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> filteringModes() {
+        final List<Object[]> result = new ArrayList<>();
+        for (final FilteringMode filteringMode : FilteringMode.values()) {
+            result.add(new Object[] {filteringMode});
+        }
+
+        return result;
+    }
+
+    private final FilteringMode filteringMode;
+    private ObjectMapper objectMapper;
+
+    public SerializationContextProviderTest(final FilteringMode filteringMode) {
+        this.filteringMode = filteringMode;
+    }
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(
+                    new Supplier<FieldPredicate>() {
+                        @Nonnull
+                        @Override
+                        public FieldPredicate get() {
+                            return parseFieldsExpressionOrFail("(middle(probe),probe)");
+                        }
+                    }, filteringMode)).registerModule(new SimpleModule()
+                    .addSerializer(Probe.class, new ProbeSerializer()));
+    }
+
+    @Test
+    public void contextIsAvailableFromSerializerProvider() throws IOException {
+        assertThat(objectMapper.writeValueAsString(new Outer()),
+            is("{\"middle\":{\"probe\":\"[middle, probe]\"},\"probe\":\"[probe]\"}"));
+    }
+
+    @Test
+    public void contextEndsWhereEverythingIsIncluded() throws IOException {
+        assertThat(objectMapper.writer().withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE,
+                parseFieldsExpressionOrFail("(middle)")).writeValueAsString(new Outer()),
+            is("{\"middle\":{\"probe\":\"[middle]\"}}"));
+        assertThat(objectMapper.writer().withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE, alwaysTrue())
+                .writeValueAsString(new Outer()), is("{\"middle\":{\"probe\":\"[]\"},\"probe\":\"[]\"}"));
+    }
+
+    @Test
+    public void predicateCanBePassedPerCall() throws IOException {
+        assertThat(objectMapper.writer().withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE,
+                parseFieldsExpressionOrFail("(middle(probe))")).writeValueAsString(new Outer()),
+            is("{\"middle\":{\"probe\":\"[middle, probe]\"}}"));
+        assertThat(objectMapper.writeValueAsString(new Outer()),
+            is("{\"middle\":{\"probe\":\"[middle, probe]\"},\"probe\":\"[probe]\"}"));
+    }
+
+    @Test
+    public void serializationsAreIndependentOfThreads() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final String expression = i % 2 == 0 ? "(probe)" : "(middle(probe))";
+                results.add(executorService.submit(new Callable<String>() {
+                            @Override
+                            public String call() throws IOException {
+                                return objectMapper.writer().withAttribute(JsonFieldsModule.FIELD_PREDICATE_ATTRIBUTE,
+                                        parseFieldsExpressionOrFail(expression)).writeValueAsString(new Outer());
+                            }
+                        }));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get(),
+                    is(i % 2 == 0 ? "{\"probe\":\"[probe]\"}" : "{\"middle\":{\"probe\":\"[middle, probe]\"}}"));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public static class Probe { }
+
+    public static class Middle {
+        public Probe probe = new Probe();
+    }
+
+    public static class Outer {
+        public Middle middle = new Middle();
+        public Probe probe = new Probe();
+    }
+
+    private static class ProbeSerializer extends JsonSerializer<Probe> {
+        @Override
+        public void serialize(final Probe value, final JsonGenerator gen, final SerializerProvider serializers)
+            throws IOException {
+            gen.writeString(SerializationContextProvider.getContext(serializers).toString());
+        }
+    }
+}
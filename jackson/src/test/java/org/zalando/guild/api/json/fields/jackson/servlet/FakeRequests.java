@@ -0,0 +1,60 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Creates HttpServletRequest proxies that support parameters and attributes, and nothing else.
+ *
+ * @since  17.10.2026
+ */
+final class FakeRequests {
+
+    static HttpServletRequest requestWithParameter(final String name, final String value) {
+        final Map<String, String> parameters = new HashMap<>();
+        if (value != null) {
+            parameters.put(name, value);
+        }
+
+        final Map<String, Object> attributes = new HashMap<>();
+        final InvocationHandler invocationHandler = new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                switch (method.getName()) {
+
+                    case "getParameter" :
+                        return parameters.get(args[0]);
+
+                    case "getAttribute" :
+                        return attributes.get(args[0]);
+
+                    case "setAttribute" :
+                        attributes.put((String) args[0], args[1]);
+                        return null;
+
+                    case "removeAttribute" :
+                        attributes.remove(args[0]);
+                        return null;
+
+                    case "toString" :
+                        return "FakeRequest" + parameters;
+
+                    default :
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        };
+
+        return (HttpServletRequest) newProxyInstance(FakeRequests.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, invocationHandler);
+    }
+
+    private FakeRequests() { }
+}
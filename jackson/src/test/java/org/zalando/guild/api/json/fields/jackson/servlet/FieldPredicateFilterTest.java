@@ -0,0 +1,133 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.servlet.FakeRequests.requestWithParameter;
+import static org.zalando.guild.api.json.fields.jackson.servlet.FieldPredicateFilter.REQUEST_PREDICATE_ATTRIBUTE;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+
+import java.io.IOException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.jackson.JsonFieldsModule;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Function;
+
+/**
+ * @since  17.10.2026
+ */
+public class FieldPredicateFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(
+                FieldPredicateFilter.boundFieldPredicate()));
+
+    @Test
+    public void predicateIsResolvedBeforeTheChain() throws Exception {
+        final HttpServletRequest request = requestWithParameter("fields", "(foo)");
+
+        assertThat(render(new FieldPredicateFilter(), request), is("{\"foo\":\"FOO\"}"));
+        assertThat(request.getAttribute(REQUEST_PREDICATE_ATTRIBUTE), is(instanceOf(FieldPredicate.class)));
+        assertThat(RequestScope.isBound(), is(false));
+    }
+
+    @Test
+    public void requestsWithoutParameterAreNotParsed() throws Exception {
+        final HttpServletRequest request = requestWithParameter("fields", null);
+
+        assertThat(render(new FieldPredicateFilter(), request), is("{\"foo\":\"FOO\",\"bar\":\"BAR\"}"));
+        assertThat(request.getAttribute(REQUEST_PREDICATE_ATTRIBUTE), is(nullValue()));
+    }
+
+    @Test
+    public void parameterNameCanBeConfigured() throws Exception {
+        final FieldPredicateFilter filter = new FieldPredicateFilter();
+        filter.init(filterConfig(FieldPredicateFilter.PARAM_NAME_INIT_PARAMETER, "select"));
+
+        assertThat(render(filter, requestWithParameter("select", "(bar)")), is("{\"bar\":\"BAR\"}"));
+        assertThat(render(filter, requestWithParameter("fields", "(bar)")), is("{\"foo\":\"FOO\",\"bar\":\"BAR\"}"));
+    }
+
+    @Test
+    public void predicatesAreCompiledOnce() throws Exception {
+        final FieldPredicate predicate = or(matchIndex(0, "foo"), matchIndex(0, "bar"));
+        final FieldPredicateFilter filter = new FieldPredicateFilter(
+                new Function<HttpServletRequest, FieldPredicate>() {
+                    @Override
+                    public FieldPredicate apply(final HttpServletRequest request) {
+                        return predicate;
+                    }
+                });
+        final HttpServletRequest first = requestWithParameter("fields", null);
+        final HttpServletRequest second = requestWithParameter("fields", null);
+        render(filter, first);
+        render(filter, second);
+
+        assertThat(first.getAttribute(REQUEST_PREDICATE_ATTRIBUTE), is(not(sameInstance((Object) predicate))));
+        assertThat(second.getAttribute(REQUEST_PREDICATE_ATTRIBUTE),
+            is(sameInstance(first.getAttribute(REQUEST_PREDICATE_ATTRIBUTE))));
+    }
+
+    @Test
+    public void unboundPredicateIsAlwaysTrue() {
+        assertThat(FieldPredicateFilter.boundFieldPredicate().get(), is(sameInstance(alwaysTrue())));
+    }
+
+    private String render(final FieldPredicateFilter filter, final HttpServletRequest request) throws IOException,
+        ServletException {
+        final AtomicReference<String> json = new AtomicReference<>();
+        filter.doFilter(request, null, new FilterChain() {
+                @Override
+                public void doFilter(final ServletRequest request, final ServletResponse response)
+                    throws IOException {
+                    json.set(objectMapper.writeValueAsString(new Item()));
+                }
+            });
+        return json.get();
+    }
+
+    private static FilterConfig filterConfig(final String name, final String value) {
+        return (FilterConfig) newProxyInstance(FieldPredicateFilterTest.class.getClassLoader(),
+                new Class<?>[] {FilterConfig.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        if (method.getName().equals("getInitParameter")) {
+                            return name.equals(args[0]) ? value : null;
+                        }
+
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    public static class Item {
+        public String foo = "FOO";
+        public String bar = "BAR";
+    }
+}
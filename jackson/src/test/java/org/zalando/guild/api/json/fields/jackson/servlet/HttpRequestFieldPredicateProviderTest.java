@@ -0,0 +1,84 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.servlet.FakeRequests.requestWithParameter;
+import static org.zalando.guild.api.json.fields.jackson.servlet.HttpRequestFieldPredicateProvider.httpRequestFieldPredicateProvider;
+import static org.zalando.guild.api.json.fields.jackson.servlet.ParamBasedPredicateFunction.paramBasedPredicateFunctionWithDefaultName;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.jackson.JsonFieldsModule;
+import org.zalando.guild.api.json.fields.jackson.ThreadLocalContextProvider;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Function;
+import com.google.common.base.Suppliers;
+
+/**
+ * @since  17.10.2026
+ */
+public class HttpRequestFieldPredicateProviderTest {
+
+    static class Item {
+        private final String foo = "FOO";
+        private final String bar = "BAR";
+    }
+
+    @Test
+    public void predicateIsResolvedOncePerRequest() throws Exception {
+        final HttpServletRequest request = requestWithParameter("fields", "(foo)");
+        final CountingFunction predicateFunction = new CountingFunction();
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+        objectMapper.registerModule(JsonFieldsModule.createJsonFieldsModule(
+                httpRequestFieldPredicateProvider(Suppliers.ofInstance(request), predicateFunction),
+                ThreadLocalContextProvider.getInstance()));
+
+        final String json = objectMapper.writeValueAsString(asList(new Item(), new Item(), new Item()));
+        objectMapper.writeValueAsString(new Item());
+
+        assertThat(json, is("[{\"foo\":\"FOO\"},{\"foo\":\"FOO\"},{\"foo\":\"FOO\"}]"));
+        assertThat(predicateFunction.calls.get(), is(1));
+    }
+
+    @Test
+    public void providersDontShareResolvedPredicates() {
+        final HttpServletRequest request = requestWithParameter("fields", "(foo)");
+        final CountingFunction first = new CountingFunction();
+        final CountingFunction second = new CountingFunction();
+
+        httpRequestFieldPredicateProvider(Suppliers.ofInstance(request), first).get();
+        httpRequestFieldPredicateProvider(Suppliers.ofInstance(request), second).get();
+
+        assertThat(first.calls.get(), is(1));
+        assertThat(second.calls.get(), is(1));
+    }
+
+    private static class CountingFunction implements Function<HttpServletRequest, FieldPredicate> {
+        private final Function<HttpServletRequest, FieldPredicate> delegate =
+            paramBasedPredicateFunctionWithDefaultName();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public FieldPredicate apply(@Nonnull final HttpServletRequest request) {
+            calls.incrementAndGet();
+            return delegate.apply(request);
+        }
+    }
+}
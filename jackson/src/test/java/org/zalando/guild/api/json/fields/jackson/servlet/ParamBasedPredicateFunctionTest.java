@@ -0,0 +1,59 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.servlet.FakeRequests.requestWithParameter;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.expression.ExpressionComplexityException;
+import org.zalando.guild.api.json.fields.java.expression.ExpressionLimits;
+import org.zalando.guild.api.json.fields.java.expression.FieldPredicateCaches;
+import org.zalando.guild.api.json.fields.java.expression.ParserEngine;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * @since  17.10.2026
+ */
+public class ParamBasedPredicateFunctionTest {
+
+    private final AtomicReference<IllegalArgumentException> failure = new AtomicReference<>();
+
+    private final ParamBasedPredicateFunction function = new ParamBasedPredicateFunction("fields",
+            FieldPredicateCaches.guavaCache(CacheBuilder.newBuilder(), ParserEngine.ANTLR,
+                ExpressionLimits.defaultLimits().withMaxDepth(2))) {
+        @Nonnull
+        @Override
+        protected FieldPredicate handleExpressionFailure(@Nonnull final String expression,
+                @Nonnull final IllegalArgumentException e) {
+            failure.set(e);
+            return super.handleExpressionFailure(expression, e);
+        }
+    };
+
+    @Test
+    public void expressionsAreParsed() {
+        assertThat(function.apply(requestWithParameter("fields", "(foo(bar))")).toString(), is("(foo(bar))"));
+    }
+
+    @Test
+    public void complexExpressionsAreDistinguishable() {
+        assertThat(function.apply(requestWithParameter("fields", "(foo(bar(baz)))")), is(sameInstance(alwaysFalse())));
+        assertThat(failure.get(), is(instanceOf(ExpressionComplexityException.class)));
+
+        assertThat(function.apply(requestWithParameter("fields", "(foo")), is(sameInstance(alwaysFalse())));
+        assertThat(failure.get() instanceof ExpressionComplexityException, is(false));
+    }
+}
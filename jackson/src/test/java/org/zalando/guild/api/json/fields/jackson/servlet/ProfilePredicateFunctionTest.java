@@ -0,0 +1,56 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.jackson.servlet.FakeRequests.requestWithParameter;
+import static org.zalando.guild.api.json.fields.jackson.servlet.ParamBasedPredicateFunction.paramBasedPredicateFunctionWithDefaultName;
+import static org.zalando.guild.api.json.fields.jackson.servlet.ProfilePredicateFunction.profilePredicateFunction;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.jackson.FieldProfiles;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * @since  17.10.2026
+ */
+public class ProfilePredicateFunctionTest {
+
+    private static final FieldProfiles PROFILES = FieldProfiles.fieldProfiles(ImmutableMap.of("mobile", "(id)"));
+
+    private final ProfilePredicateFunction function = profilePredicateFunction(PROFILES,
+            paramBasedPredicateFunctionWithDefaultName());
+
+    @Test
+    public void profilesAreSelectedByName() {
+        assertThat(function.apply(requestWithParameter("profile", "mobile")),
+            is(sameInstance(PROFILES.getPredicate("mobile"))));
+    }
+
+    @Test
+    public void unknownProfilesMatchNothing() {
+        assertThat(function.apply(requestWithParameter("profile", "desktop")), is(sameInstance(alwaysFalse())));
+    }
+
+    @Test
+    public void requestsWithoutProfileUseTheFallback() {
+        assertThat(function.apply(requestWithParameter("profile", null)), is(sameInstance(alwaysTrue())));
+        assertThat(function.apply(requestWithParameter("fields", "(foo)")).toString(), is("(foo)"));
+    }
+
+    @Test
+    public void customParameterNames() {
+        final ProfilePredicateFunction custom = profilePredicateFunction(PROFILES, "view",
+                paramBasedPredicateFunctionWithDefaultName());
+
+        assertThat(custom.apply(requestWithParameter("view", "mobile")),
+            is(sameInstance(PROFILES.getPredicate("mobile"))));
+    }
+}
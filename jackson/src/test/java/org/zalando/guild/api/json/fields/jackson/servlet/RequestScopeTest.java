@@ -0,0 +1,116 @@
+package org.zalando.guild.api.json.fields.jackson.servlet;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.jackson.servlet.FakeRequests.requestWithParameter;
+import static org.zalando.guild.api.json.fields.jackson.servlet.HttpRequestFieldPredicateProvider.httpRequestFieldPredicateProvider;
+import static org.zalando.guild.api.json.fields.jackson.servlet.ParamBasedPredicateFunction.paramBasedPredicateFunctionWithDefaultName;
+
+import java.io.IOException;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.jackson.JsonFieldsModule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * @since  17.10.2026
+ */
+public class RequestScopeTest {
+
+    @Test
+    public void bindingsAreRestored() {
+        final HttpServletRequest outer = requestWithParameter("fields", "(a)");
+        final HttpServletRequest inner = requestWithParameter("fields", "(b)");
+
+        assertThat(RequestScope.isBound(), is(false));
+        try(RequestScope.Binding outerBinding = RequestScope.bind(outer)) {
+            try(RequestScope.Binding innerBinding = RequestScope.bind(inner)) {
+                assertThat(RequestScope.getInstance().get(), is(sameInstance(inner)));
+            }
+
+            assertThat(RequestScope.getInstance().get(), is(sameInstance(outer)));
+        }
+
+        assertThat(RequestScope.isBound(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noRequestBound() {
+        RequestScope.getInstance().get();
+    }
+
+    @Test
+    public void nestedBindingsMustBeClosedFirst() {
+        final RequestScope.Binding outer = RequestScope.bind(requestWithParameter("fields", "(a)"));
+        final RequestScope.Binding inner = RequestScope.bind(requestWithParameter("fields", "(b)"));
+        try {
+            outer.close();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+
+        inner.close();
+        inner.close();
+        outer.close();
+        assertThat(RequestScope.isBound(), is(false));
+    }
+
+    @Test
+    public void filterBindsRequestWhileChainIsProcessed() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper().registerModule(JsonFieldsModule.createJsonFieldsModule(
+                    httpRequestFieldPredicateProvider(paramBasedPredicateFunctionWithDefaultName())));
+        final AtomicReference<String> json = new AtomicReference<>();
+
+        new RequestScopeFilter().doFilter(requestWithParameter("fields", "(item(foo))"), null, new FilterChain() {
+                @Override
+                public void doFilter(final ServletRequest request, final ServletResponse response)
+                    throws IOException {
+                    json.set(objectMapper.writeValueAsString(ImmutableMap.of("item", new Item())));
+                }
+            });
+
+        assertThat(json.get(), is("{\"item\":{\"foo\":\"FOO\"}}"));
+        assertThat(RequestScope.isBound(), is(false));
+    }
+
+    @Test
+    public void filterUnbindsRequestOnFailure() throws Exception {
+        try {
+            new RequestScopeFilter().doFilter(requestWithParameter("fields", "(foo)"), null, new FilterChain() {
+                    @Override
+                    public void doFilter(final ServletRequest request, final ServletResponse response)
+                        throws ServletException {
+                        throw new ServletException("boom");
+                    }
+                });
+            fail("Expected ServletException");
+        } catch (ServletException expected) {
+            // expected
+        }
+
+        assertThat(RequestScope.isBound(), is(false));
+    }
+
+    public static class Item {
+        public String foo = "FOO";
+        public String bar = "BAR";
+    }
+}
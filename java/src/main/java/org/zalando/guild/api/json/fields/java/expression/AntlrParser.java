@@ -0,0 +1,62 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import javax.annotation.Nonnull;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+import org.zalando.guild.api.json.fields.java.parser.JsonFieldsLexer;
+import org.zalando.guild.api.json.fields.java.parser.JsonFieldsParser;
+
+/**
+ * Parses Json field expressions with the parser generated by ANTLR from the grammar. This is the reference
+ * implementation.
+ *
+ * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
+ * @since   07.09.2015
+ */
+final class AntlrParser {
+
+    /**
+     * Returns a compiled FieldPredicate consistent with the semantics of the supplied Json Fields expression.
+     *
+     * @exception  IllegalArgumentException  if the expression has invalid syntax
+     */
+    @Nonnull
+    static FieldPredicate parse(@Nonnull final String fieldsExpression) {
+        try {
+
+            final JsonFieldsLexer lexer = new JsonFieldsLexer(new ANTLRInputStream(fieldsExpression));
+            lexer.removeErrorListeners();
+
+            lexer.addErrorListener(STRICT_LISTENER);
+
+            final JsonFieldsParser parser = new JsonFieldsParser(new CommonTokenStream(lexer));
+            parser.removeErrorListeners();
+
+            parser.addErrorListener(STRICT_LISTENER);
+            parser.setErrorHandler(new BailErrorStrategy());
+            return FieldPredicates.compile(new FieldPredicateVisitor().visitJson_fields(parser.json_fields()));
+        } catch (ParseCancellationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static final BaseErrorListener STRICT_LISTENER = new BaseErrorListener() {
+        @Override
+        public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line,
+                final int charPositionInLine, final String msg, final RecognitionException e) {
+            throw new ParseCancellationException(e);
+        }
+
+    };
+
+    private AntlrParser() { }
+}
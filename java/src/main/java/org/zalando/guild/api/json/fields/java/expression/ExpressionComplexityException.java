@@ -0,0 +1,17 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+/**
+ * Thrown if a fields expression exceeds one of the {@link ExpressionLimits}. Unlike other
+ * {@link IllegalArgumentException}s thrown by the parser, it is thrown before the expression is parsed, so the
+ * expression may or may not be syntactically valid.
+ *
+ * @since  17.10.2026
+ */
+public class ExpressionComplexityException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 6419287320563911523L;
+
+    public ExpressionComplexityException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,170 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Upper bounds for the complexity of fields expressions, which usually come straight from a query string. They are
+ * checked in a single pass over the characters of an expression, before any lexer, parse tree or predicate is
+ * created, so abusive input costs no more than reading it once.
+ *
+ * <ul>
+ *   <li>The length is the number of characters, including whitespace.</li>
+ *   <li>The depth is the nesting level of field sets: 1 for {@code (foo,bar)}, 2 for {@code (foo(bar))}.</li>
+ *   <li>The field count is the number of fields in all field sets: 3 for {@code (foo,bar(baz))}.</li>
+ * </ul>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class ExpressionLimits {
+
+    /**
+     * The maximum length of {@link #defaultLimits()}.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 8192;
+
+    /**
+     * The maximum depth of {@link #defaultLimits()}.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 32;
+
+    /**
+     * The maximum field count of {@link #defaultLimits()}.
+     */
+    public static final int DEFAULT_MAX_FIELDS = 1024;
+
+    private static final ExpressionLimits DEFAULT = new ExpressionLimits(DEFAULT_MAX_LENGTH, DEFAULT_MAX_DEPTH,
+            DEFAULT_MAX_FIELDS);
+
+    private static final ExpressionLimits NONE = new ExpressionLimits(Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Integer.MAX_VALUE);
+
+    private final int maxLength;
+    private final int maxDepth;
+    private final int maxFields;
+
+    private ExpressionLimits(final int maxLength, final int maxDepth, final int maxFields) {
+        this.maxLength = maxLength;
+        this.maxDepth = maxDepth;
+        this.maxFields = maxFields;
+    }
+
+    /**
+     * Return the limits used by the {@link ParserFramework} methods without a limits argument: at most
+     * {@value #DEFAULT_MAX_LENGTH} characters, a depth of {@value #DEFAULT_MAX_DEPTH} and {@value #DEFAULT_MAX_FIELDS}
+     * fields.
+     */
+    @Nonnull
+    public static ExpressionLimits defaultLimits() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return limits that accept any expression, e.g. for expressions from trusted sources.
+     */
+    @Nonnull
+    public static ExpressionLimits noLimits() {
+        return NONE;
+    }
+
+    /**
+     * Return a copy of these limits with the supplied maximum length.
+     *
+     * @exception  IllegalArgumentException  if the maximum is not positive
+     */
+    @Nonnull
+    public ExpressionLimits withMaxLength(final int maxLength) {
+        checkArgument(maxLength > 0, "Maximum length must be positive");
+        return new ExpressionLimits(maxLength, maxDepth, maxFields);
+    }
+
+    /**
+     * Return a copy of these limits with the supplied maximum depth.
+     *
+     * @exception  IllegalArgumentException  if the maximum is not positive
+     */
+    @Nonnull
+    public ExpressionLimits withMaxDepth(final int maxDepth) {
+        checkArgument(maxDepth > 0, "Maximum depth must be positive");
+        return new ExpressionLimits(maxLength, maxDepth, maxFields);
+    }
+
+    /**
+     * Return a copy of these limits with the supplied maximum field count.
+     *
+     * @exception  IllegalArgumentException  if the maximum is not positive
+     */
+    @Nonnull
+    public ExpressionLimits withMaxFields(final int maxFields) {
+        checkArgument(maxFields > 0, "Maximum field count must be positive");
+        return new ExpressionLimits(maxLength, maxDepth, maxFields);
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxFields() {
+        return maxFields;
+    }
+
+    /**
+     * Check the supplied expression against these limits. Only the characters that open field sets and separate fields
+     * are counted, so the result for syntactically invalid expressions is an approximation; they are rejected by the
+     * parser anyway.
+     *
+     * @exception  ExpressionComplexityException  if the expression exceeds one of the limits
+     */
+    public void check(@Nonnull final CharSequence fieldsExpression) {
+        checkNotNull(fieldsExpression, "FieldsExpression required");
+
+        final int length = fieldsExpression.length();
+        if (length > maxLength) {
+            throw new ExpressionComplexityException(String.format(
+                    "Fields expression of %d characters exceeds the maximum length of %d", length, maxLength));
+        }
+
+        if (this == NONE) {
+            return;
+        }
+
+        int depth = 0;
+        int fields = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = fieldsExpression.charAt(i);
+            if (c == '(') {
+                if (++depth > maxDepth) {
+                    throw new ExpressionComplexityException(String.format(
+                            "Fields expression exceeds the maximum depth of %d at offset %d", maxDepth, i));
+                }
+
+                fields++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',') {
+                fields++;
+            } else {
+                continue;
+            }
+
+            if (fields > maxFields) {
+                throw new ExpressionComplexityException(String.format(
+                        "Fields expression exceeds the maximum field count of %d at offset %d", maxFields, i));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExpressionLimits(maxLength=%d, maxDepth=%d, maxFields=%d)", maxLength, maxDepth,
+                maxFields);
+    }
+}
@@ -0,0 +1,36 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * A cache of parsed Json field expressions. Implementations must be thread safe. Instances are obtained through
+ * {@link FieldPredicateCaches}, but custom implementations may be plugged in wherever a FieldPredicateCache is
+ * accepted.
+ *
+ * @since  17.10.2026
+ */
+public interface FieldPredicateCache {
+
+    /**
+     * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression, parsing the
+     * expression only if it isn't cached yet. Invalid expressions may be cached as well, i.e. an
+     * {@link IllegalArgumentException} caused by the original failure is thrown without re-parsing the expression.
+     * Expressions that exceed the {@link ExpressionLimits} of the cache are rejected without being cached.
+     *
+     * @exception  NullPointerException           if null is passed in
+     * @exception  ExpressionComplexityException  if the expression exceeds the limits of the cache
+     * @exception  IllegalArgumentException       if the expression has invalid syntax
+     */
+    @Nonnull
+    FieldPredicate parseFieldsExpressionOrFail(@Nonnull String fieldsExpression);
+
+    /**
+     * Return a snapshot of the hit, miss and eviction counts of this cache.
+     */
+    @Nonnull
+    CacheStats stats();
+}
@@ -0,0 +1,244 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.DEFAULT_ENGINE;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.metrics.Metrics;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Factory methods for constructing {@link FieldPredicateCache}s.
+ *
+ * @since  17.10.2026
+ */
+public final class FieldPredicateCaches {
+
+    /**
+     * The number of invalid expressions remembered by a Guava-backed cache. They are kept apart from the valid ones, so
+     * that a stream of distinct invalid expressions can't evict the valid ones.
+     */
+    static final int MAX_CACHED_FAILURES = 100;
+
+    /**
+     * Return a {@link FieldPredicateCache} that keeps at most the supplied number of expressions, evicting the least
+     * recently used ones first.
+     *
+     * @exception  IllegalArgumentException  if the maximum size is negative
+     */
+    @Nonnull
+    public static FieldPredicateCache boundedCache(final long maximumSize) {
+        return boundedCache(maximumSize, DEFAULT_ENGINE);
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} that keeps at most the supplied number of expressions, evicting the least
+     * recently used ones first, and parses expressions with the supplied engine.
+     *
+     * @exception  IllegalArgumentException  if the maximum size is negative
+     */
+    @Nonnull
+    public static FieldPredicateCache boundedCache(final long maximumSize, @Nonnull final ParserEngine engine) {
+        checkArgument(maximumSize >= 0, "Maximum size must not be negative");
+        return guavaCache(CacheBuilder.newBuilder().maximumSize(maximumSize), engine);
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} backed by a Guava {@link Cache} built from the supplied builder. Use this
+     * to customize eviction, e.g. by weight or by time. Statistics are recorded regardless of the builder's
+     * configuration: note that this enables {@link CacheBuilder#recordStats()} on the supplied builder itself.
+     */
+    @Nonnull
+    public static FieldPredicateCache guavaCache(@Nonnull final CacheBuilder<Object, Object> cacheBuilder) {
+        return guavaCache(cacheBuilder, DEFAULT_ENGINE);
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} backed by a Guava {@link Cache} built from the supplied builder, parsing
+     * expressions with the supplied engine. Like {@link #guavaCache(CacheBuilder)}, this enables
+     * {@link CacheBuilder#recordStats()} on the supplied builder.
+     */
+    @Nonnull
+    public static FieldPredicateCache guavaCache(@Nonnull final CacheBuilder<Object, Object> cacheBuilder,
+            @Nonnull final ParserEngine engine) {
+        return guavaCache(cacheBuilder, engine, ExpressionLimits.defaultLimits());
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} backed by a Guava {@link Cache} built from the supplied builder, parsing
+     * expressions with the supplied engine. Expressions that exceed the supplied limits are rejected with an
+     * {@link ExpressionComplexityException} before the cache is consulted, so they never take up space in it. Like
+     * {@link #guavaCache(CacheBuilder)}, this enables {@link CacheBuilder#recordStats()} on the supplied builder.
+     */
+    @Nonnull
+    public static FieldPredicateCache guavaCache(@Nonnull final CacheBuilder<Object, Object> cacheBuilder,
+            @Nonnull final ParserEngine engine, @Nonnull final ExpressionLimits limits) {
+        checkNotNull(cacheBuilder, "CacheBuilder required");
+        checkNotNull(engine, "Engine required");
+        checkNotNull(limits, "Limits required");
+        return new GuavaFieldPredicateCache(cacheBuilder.recordStats().<String, FieldPredicate>build(), engine, limits);
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} that doesn't cache anything, i.e. that parses every expression it is
+     * passed. Every call is counted as a miss.
+     */
+    @Nonnull
+    public static FieldPredicateCache noCache() {
+        return noCache(DEFAULT_ENGINE);
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} that doesn't cache anything, parsing every expression with the supplied
+     * engine.
+     */
+    @Nonnull
+    public static FieldPredicateCache noCache(@Nonnull final ParserEngine engine) {
+        return noCache(engine, ExpressionLimits.defaultLimits());
+    }
+
+    /**
+     * Return a {@link FieldPredicateCache} that doesn't cache anything, parsing every expression that doesn't exceed
+     * the supplied limits with the supplied engine.
+     */
+    @Nonnull
+    public static FieldPredicateCache noCache(@Nonnull final ParserEngine engine,
+            @Nonnull final ExpressionLimits limits) {
+        checkNotNull(engine, "Engine required");
+        checkNotNull(limits, "Limits required");
+        return new NoFieldPredicateCache(engine, limits);
+    }
+
+    private FieldPredicateCaches() { }
+
+    /**
+     * Parses an expression on a cache miss, and remembers that it did.
+     */
+    private static final class Loader implements Callable<FieldPredicate> {
+        private final String fieldsExpression;
+        private final ParserEngine engine;
+        private boolean called;
+
+        Loader(final String fieldsExpression, final ParserEngine engine) {
+            this.fieldsExpression = fieldsExpression;
+            this.engine = engine;
+        }
+
+        /**
+         * Parse an expression that has already been checked against the limits of the cache.
+         */
+        @Override
+        public FieldPredicate call() {
+            called = true;
+            return parseFieldsExpressionOrFail(fieldsExpression, engine, ExpressionLimits.noLimits());
+        }
+    }
+
+    private static final class GuavaFieldPredicateCache implements FieldPredicateCache {
+        private final Cache<String, FieldPredicate> cache;
+        private final Cache<String, IllegalArgumentException> failures = CacheBuilder.newBuilder()
+                                                                                     .maximumSize(MAX_CACHED_FAILURES)
+                                                                                     .recordStats().build();
+        private final ParserEngine engine;
+        private final ExpressionLimits limits;
+
+        GuavaFieldPredicateCache(final Cache<String, FieldPredicate> cache, final ParserEngine engine,
+                final ExpressionLimits limits) {
+            this.cache = cache;
+            this.engine = engine;
+            this.limits = limits;
+        }
+
+        @Nonnull
+        @Override
+        public FieldPredicate parseFieldsExpressionOrFail(@Nonnull final String fieldsExpression) {
+            limits.check(fieldsExpression);
+
+            final IllegalArgumentException failure = failures.getIfPresent(fieldsExpression);
+            if (failure != null) {
+                Metrics.get().cacheLookup(true);
+                throw new IllegalArgumentException(failure.getMessage(), failure);
+            }
+
+            final Loader loader = new Loader(fieldsExpression, engine);
+            try {
+                final FieldPredicate predicate = cache.get(fieldsExpression, loader);
+                Metrics.get().cacheLookup(!loader.called);
+                return predicate;
+            } catch (UncheckedExecutionException e) {
+                Metrics.get().cacheLookup(false);
+                if (e.getCause() instanceof IllegalArgumentException) {
+                    final IllegalArgumentException cause = (IllegalArgumentException) e.getCause();
+                    failures.put(fieldsExpression, cause);
+                    throw new IllegalArgumentException(cause.getMessage(), cause);
+                }
+
+                throw Throwables.propagate(e.getCause());
+            } catch (ExecutionException e) {
+                throw Throwables.propagate(e.getCause());
+            }
+        }
+
+        /**
+         * Return the statistics of the valid expressions, plus the hits and evictions of the invalid ones. Every
+         * invalid expression is counted as a miss when it is parsed.
+         */
+        @Nonnull
+        @Override
+        public CacheStats stats() {
+            final CacheStats failureStats = failures.stats();
+            return cache.stats().plus(new CacheStats(failureStats.hitCount(), 0, 0, 0, 0,
+                        failureStats.evictionCount()));
+        }
+
+        @Override
+        public String toString() {
+            return "GuavaFieldPredicateCache" + stats();
+        }
+    }
+
+    private static final class NoFieldPredicateCache implements FieldPredicateCache {
+        private final AtomicLong misses = new AtomicLong();
+        private final ParserEngine engine;
+        private final ExpressionLimits limits;
+
+        NoFieldPredicateCache(final ParserEngine engine, final ExpressionLimits limits) {
+            this.engine = engine;
+            this.limits = limits;
+        }
+
+        @Nonnull
+        @Override
+        public FieldPredicate parseFieldsExpressionOrFail(@Nonnull final String fieldsExpression) {
+            misses.incrementAndGet();
+            Metrics.get().cacheLookup(false);
+            return ParserFramework.parseFieldsExpressionOrFail(fieldsExpression, engine, limits);
+        }
+
+        @Nonnull
+        @Override
+        public CacheStats stats() {
+            return new CacheStats(0, misses.get(), 0, 0, 0, 0);
+        }
+
+        @Override
+        public String toString() {
+            return "NoFieldPredicateCache" + stats();
+        }
+    }
+}
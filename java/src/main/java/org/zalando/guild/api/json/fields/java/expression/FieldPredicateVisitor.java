@@ -1,11 +1,8 @@
 package org.zalando.guild.api.json.fields.java.expression;
 
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
-import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
-import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
 
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.antlr.v4.runtime.misc.NotNull;
@@ -45,7 +42,7 @@ class FieldPredicateVisitor extends JsonFieldsBaseVisitor<FieldPredicate> {
 
     @Override
     public FieldPredicate visitField(@NotNull final FieldContext ctx) {
-        return matchIndex(depth.get(), ctx.getText());
+        return FieldSetBuilder.matchField(depth.get(), ctx.getText());
     }
 
     @Override
@@ -69,20 +66,16 @@ class FieldPredicateVisitor extends JsonFieldsBaseVisitor<FieldPredicate> {
     @Override
     public FieldPredicate visitField_set(@NotNull final Field_setContext ctx) {
 
-        final List<Qualified_fieldContext> fieldContexts = ctx.qualified_field();
-        final FieldPredicate first = visitQualified_field(fieldContexts.get(0));
-        if (fieldContexts.size() == 1) {
-            return first;
+        final FieldSetBuilder fieldSet = new FieldSetBuilder(depth.get());
+        for (final Qualified_fieldContext qualified_fieldContext : ctx.qualified_field()) {
+            if (qualified_fieldContext.fields_expression() == null) {
+                fieldSet.addField(qualified_fieldContext.field().getText());
+            } else {
+                fieldSet.addQualifiedField(visitQualified_field(qualified_fieldContext));
+            }
         }
 
-        final FieldPredicate[] more = new FieldPredicate[fieldContexts.size() - 1];
-        int offset = 0;
-
-        for (final Qualified_fieldContext qualified_fieldContext : fieldContexts.subList(1, fieldContexts.size())) {
-            more[offset++] = visitQualified_field(qualified_fieldContext);
-        }
-
-        return or(first, more);
+        return fieldSet.build();
 
     }
 
@@ -0,0 +1,102 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndexAnyOf;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchPrefix;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+/**
+ * Collects the members of a field set. It is shared by both parser engines, so that they produce the same predicates.
+ * Wide sets of unqualified fields are turned into a single {@link FieldPredicates#matchIndexAnyOf(int, Set)} predicate
+ * at the position of the first of them, instead of one index match per field. Field patterns ({@code price_*}) are
+ * turned into {@link FieldPredicates#matchPrefix(int, String)} predicates and never become part of a set lookup.
+ *
+ * @since  17.10.2026
+ */
+final class FieldSetBuilder {
+
+    /**
+     * The minimum number of distinct unqualified fields for which a set lookup is used.
+     */
+    static final int WIDE_FIELD_SET = 8;
+
+    /**
+     * The wildcard that ends a field pattern.
+     */
+    static final char WILDCARD = '*';
+
+    private final int depth;
+
+    /**
+     * The members in order, with null at the positions of unqualified fields.
+     */
+    private final List<FieldPredicate> members = new ArrayList<>();
+
+    /**
+     * The names of the unqualified fields in order.
+     */
+    private final List<String> fields = new ArrayList<>();
+
+    FieldSetBuilder(final int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Return the predicate matching the supplied field or field pattern at the supplied depth.
+     */
+    static FieldPredicate matchField(final int depth, final String field) {
+        final int last = field.length() - 1;
+        return field.charAt(last) == WILDCARD ? matchPrefix(depth, field.substring(0, last)) : matchIndex(depth, field);
+    }
+
+    /**
+     * Add an unqualified field or field pattern.
+     */
+    void addField(final String field) {
+        if (field.charAt(field.length() - 1) == WILDCARD) {
+            members.add(matchField(depth, field));
+        } else {
+            members.add(null);
+            fields.add(field);
+        }
+    }
+
+    /**
+     * Add a qualified field.
+     */
+    void addQualifiedField(final FieldPredicate qualifiedField) {
+        members.add(qualifiedField);
+    }
+
+    FieldPredicate build() {
+        final Set<String> distinctFields = new LinkedHashSet<>(fields);
+        final boolean wide = distinctFields.size() >= WIDE_FIELD_SET;
+
+        final List<FieldPredicate> predicates = new ArrayList<>(members.size());
+        int field = 0;
+        for (final FieldPredicate member : members) {
+            if (member != null) {
+                predicates.add(member);
+            } else if (!wide) {
+                predicates.add(matchIndex(depth, fields.get(field++)));
+            } else if (field++ == 0) {
+                predicates.add(matchIndexAnyOf(depth, distinctFields));
+            }
+        }
+
+        final FieldPredicate first = predicates.get(0);
+        if (predicates.size() == 1) {
+            return first;
+        }
+
+        return or(first, predicates.subList(1, predicates.size()).toArray(new FieldPredicate[predicates.size() - 1]));
+    }
+}
@@ -0,0 +1,46 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import javax.annotation.Nonnull;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+/**
+ * The available implementations for parsing Json field expressions. Both accept exactly the same expressions and
+ * produce predicates with the same semantics.
+ *
+ * @since  17.10.2026
+ */
+public enum ParserEngine {
+
+    /**
+     * The parser generated by ANTLR from the grammar. This is the reference implementation and the default.
+     */
+    ANTLR {
+        @Nonnull
+        @Override
+        FieldPredicate parse(@Nonnull final String fieldsExpression) {
+            return AntlrParser.parse(fieldsExpression);
+        }
+    },
+
+    /**
+     * A hand-written recursive descent parser that works directly on the characters of the expression. It doesn't
+     * create lexers, token streams or parse trees, so it has lower latency and creates less garbage per parse,
+     * especially on cold start.
+     */
+    RECURSIVE_DESCENT {
+        @Nonnull
+        @Override
+        FieldPredicate parse(@Nonnull final String fieldsExpression) {
+            return RecursiveDescentParser.parse(fieldsExpression);
+        }
+    };
+
+    /**
+     * Returns a compiled FieldPredicate consistent with the semantics of the supplied Json Fields expression.
+     *
+     * @exception  IllegalArgumentException  if the expression has invalid syntax
+     */
+    @Nonnull
+    abstract FieldPredicate parse(@Nonnull String fieldsExpression);
+}
@@ -4,27 +4,26 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
 
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.BaseErrorListener;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.RecognitionException;
-import org.antlr.v4.runtime.Recognizer;
-import org.antlr.v4.runtime.misc.ParseCancellationException;
-
+import org.zalando.guild.api.json.fields.java.metrics.Metrics;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
 import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
-import org.zalando.guild.api.json.fields.java.parser.JsonFieldsLexer;
-import org.zalando.guild.api.json.fields.java.parser.JsonFieldsParser;
 
 /**
- * Entry point for parsing Json field expressions into {@link FieldPredicate}s.
+ * Entry point for parsing Json field expressions into {@link FieldPredicate}s. Parse latencies and failures are
+ * reported to the active {@link org.zalando.guild.api.json.fields.java.metrics.FieldsMetrics}. Expressions are
+ * checked against {@link ExpressionLimits} before they are parsed, by default against
+ * {@link ExpressionLimits#defaultLimits()}.
  *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   07.09.2015
  */
 public final class ParserFramework {
 
+    /**
+     * The engine used by the methods that don't take an engine argument.
+     */
+    public static final ParserEngine DEFAULT_ENGINE = ParserEngine.ANTLR;
+
     /**
      * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression. If the expression
      * is invalid, the returned predicate will not match anything.
@@ -32,7 +31,7 @@ public final class ParserFramework {
      * @exception  NullPointerException  if null is passed in
      */
     public static FieldPredicate parseFieldsExpression(@Nonnull final String fieldsExpression) {
-        return parseFieldsExpression(fieldsExpression, false);
+        return parseFieldsExpression(fieldsExpression, DEFAULT_ENGINE);
     }
 
     /**
@@ -40,45 +39,90 @@ public final class ParserFramework {
      * is invalid, an {@link IllegalArgumentException} will be thrown.
      *
      * @exception  NullPointerException      if null is passed in
-     * @exception  IllegalArgumentException  if the expression has invalid syntax
+     * @exception  IllegalArgumentException  if the expression has invalid syntax, or exceeds the
+     *                                       {@link ExpressionLimits#defaultLimits()}
      */
     public static FieldPredicate parseFieldsExpressionOrFail(@Nonnull final String fieldsExpression) {
-        return parseFieldsExpression(fieldsExpression, true);
+        return parseFieldsExpressionOrFail(fieldsExpression, DEFAULT_ENGINE);
+    }
+
+    /**
+     * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression, parsed by the
+     * supplied engine. If the expression is invalid, the returned predicate will not match anything.
+     *
+     * @exception  NullPointerException  if null is passed in
+     */
+    public static FieldPredicate parseFieldsExpression(@Nonnull final String fieldsExpression,
+            @Nonnull final ParserEngine engine) {
+        return parseFieldsExpression(fieldsExpression, engine, ExpressionLimits.defaultLimits(), false);
+    }
+
+    /**
+     * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression, parsed by the
+     * supplied engine. If the expression is invalid, an {@link IllegalArgumentException} will be thrown.
+     *
+     * @exception  NullPointerException      if null is passed in
+     * @exception  IllegalArgumentException  if the expression has invalid syntax
+     */
+    public static FieldPredicate parseFieldsExpressionOrFail(@Nonnull final String fieldsExpression,
+            @Nonnull final ParserEngine engine) {
+        return parseFieldsExpression(fieldsExpression, engine, ExpressionLimits.defaultLimits(), true);
+    }
+
+    /**
+     * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression, parsed by the
+     * supplied engine if it doesn't exceed the supplied limits. If the expression is invalid or too complex, the
+     * returned predicate will not match anything.
+     *
+     * @exception  NullPointerException  if null is passed in
+     */
+    public static FieldPredicate parseFieldsExpression(@Nonnull final String fieldsExpression,
+            @Nonnull final ParserEngine engine, @Nonnull final ExpressionLimits limits) {
+        return parseFieldsExpression(fieldsExpression, engine, limits, false);
+    }
+
+    /**
+     * Returns a FieldPredicate consistent with the semantics of the supplied Json Fields expression, parsed by the
+     * supplied engine if it doesn't exceed the supplied limits.
+     *
+     * @exception  NullPointerException           if null is passed in
+     * @exception  ExpressionComplexityException  if the expression exceeds the limits
+     * @exception  IllegalArgumentException       if the expression has invalid syntax
+     */
+    public static FieldPredicate parseFieldsExpressionOrFail(@Nonnull final String fieldsExpression,
+            @Nonnull final ParserEngine engine, @Nonnull final ExpressionLimits limits) {
+        return parseFieldsExpression(fieldsExpression, engine, limits, true);
     }
 
     private static FieldPredicate parseFieldsExpression(@Nonnull final String fieldsExpression,
-            final boolean throwIfInvalid) {
+            @Nonnull final ParserEngine engine, @Nonnull final ExpressionLimits limits, final boolean throwIfInvalid) {
         checkNotNull(fieldsExpression, "FieldsExpression required");
-        try {
+        checkNotNull(engine, "Engine required");
+        checkNotNull(limits, "Limits required");
 
-            final JsonFieldsLexer lexer = new JsonFieldsLexer(new ANTLRInputStream(fieldsExpression));
-            lexer.removeErrorListeners();
+        final boolean measured = Metrics.isEnabled();
+        final long start = measured ? System.nanoTime() : 0;
+        try {
+            limits.check(fieldsExpression);
 
-            lexer.addErrorListener(STRICT_LISTENER);
+            final FieldPredicate predicate = engine.parse(fieldsExpression);
+            if (measured) {
+                Metrics.get().expressionParsed(System.nanoTime() - start);
+            }
 
-            final JsonFieldsParser parser = new JsonFieldsParser(new CommonTokenStream(lexer));
-            parser.removeErrorListeners();
+            return predicate;
+        } catch (IllegalArgumentException e) {
+            if (measured) {
+                Metrics.get().expressionRejected(System.nanoTime() - start);
+            }
 
-            parser.addErrorListener(STRICT_LISTENER);
-            parser.setErrorHandler(new BailErrorStrategy());
-            return new FieldPredicateVisitor().visitJson_fields(parser.json_fields());
-        } catch (ParseCancellationException e) {
             if (throwIfInvalid) {
-                throw new IllegalArgumentException(e);
+                throw e;
             } else {
                 return FieldPredicates.alwaysFalse();
             }
         }
     }
 
-    private static final BaseErrorListener STRICT_LISTENER = new BaseErrorListener() {
-        @Override
-        public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line,
-                final int charPositionInLine, final String msg, final RecognitionException e) {
-            throw new ParseCancellationException(e);
-        }
-
-    };
-
     private ParserFramework() { }
 }
@@ -0,0 +1,218 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates;
+
+/**
+ * A hand-written parser for Json field expressions that works directly on the characters of the expression. It
+ * accepts exactly the language of the grammar and produces the same predicates as {@link AntlrParser}, without token
+ * objects, parse trees or exceptions for flow control.
+ *
+ * <p>Like the generated lexer, the parser skips whitespace between any two tokens. As field names are sequences of
+ * single-character tokens in the grammar, whitespace within field names is ignored, too, as is whitespace before the
+ * wildcard of a field pattern.
+ *
+ * @since  17.10.2026
+ */
+final class RecursiveDescentParser {
+
+    private static final char EOF = '\uFFFF';
+
+    private final CharSequence input;
+    private final int length;
+    private int position;
+
+    private int errorPosition = -1;
+    private String expected;
+
+    private RecursiveDescentParser(final CharSequence input) {
+        this.input = input;
+        this.length = input.length();
+    }
+
+    /**
+     * Returns a compiled FieldPredicate consistent with the semantics of the supplied Json Fields expression.
+     *
+     * @exception  IllegalArgumentException  if the expression has invalid syntax
+     */
+    @Nonnull
+    static FieldPredicate parse(@Nonnull final CharSequence fieldsExpression) {
+        final RecursiveDescentParser parser = new RecursiveDescentParser(fieldsExpression);
+        final FieldPredicate predicate = parser.jsonFields();
+        if (predicate == null) {
+            throw new IllegalArgumentException(String.format("Invalid fields expression '%s': expected %s at offset %d",
+                    fieldsExpression, parser.expected, parser.errorPosition));
+        }
+
+        return FieldPredicates.compile(predicate);
+    }
+
+    @Nullable
+    private FieldPredicate jsonFields() {
+        final FieldPredicate predicate = fieldsExpression(0);
+        if (predicate == null) {
+            return null;
+        }
+
+        skipWhitespace();
+        return position == length ? predicate : fail("end of expression");
+    }
+
+    @Nullable
+    private FieldPredicate fieldsExpression(final int depth) {
+        skipWhitespace();
+
+        final boolean negated = peek() == '!';
+        if (negated) {
+            position++;
+        }
+
+        final FieldPredicate fieldSet = fieldSet(depth);
+        if (fieldSet == null) {
+            return null;
+        }
+
+        return negated ? not(fieldSet) : fieldSet;
+    }
+
+    @Nullable
+    private FieldPredicate fieldSet(final int depth) {
+        skipWhitespace();
+        if (peek() != '(') {
+            return fail("'('");
+        }
+
+        position++;
+
+        final FieldSetBuilder fieldSet = new FieldSetBuilder(depth);
+        while (true) {
+            if (!qualifiedField(depth, fieldSet)) {
+                return null;
+            }
+
+            skipWhitespace();
+
+            final char c = peek();
+            if (c == ')') {
+                position++;
+                break;
+            } else if (c != ',') {
+                return fail("',' or ')'");
+            }
+
+            position++;
+        }
+
+        return fieldSet.build();
+    }
+
+    /**
+     * Parse a qualified field and add it to the supplied field set, returning false if the expression is invalid.
+     */
+    private boolean qualifiedField(final int depth, final FieldSetBuilder fieldSet) {
+        final String field = field();
+        if (field == null) {
+            return false;
+        }
+
+        skipWhitespace();
+
+        final char c = peek();
+        if (c != '!' && c != '(') {
+            fieldSet.addField(field);
+            return true;
+        }
+
+        final FieldPredicate fieldsExpression = fieldsExpression(depth + 1);
+        if (fieldsExpression == null) {
+            return false;
+        }
+
+        fieldSet.addQualifiedField(and(FieldSetBuilder.matchField(depth, field), fieldsExpression));
+        return true;
+    }
+
+    /**
+     * Parse a field name or field pattern, i.e. a field name followed by a wildcard, or the wildcard alone.
+     */
+    @Nullable
+    private String field() {
+        final String name = fieldName();
+        if (name == null || peek() != FieldSetBuilder.WILDCARD) {
+            return name;
+        }
+
+        position++;
+        return name + FieldSetBuilder.WILDCARD;
+    }
+
+    @Nullable
+    private String fieldName() {
+        skipWhitespace();
+
+        final int start = position;
+        skipFieldCharacters();
+        if (position == start) {
+            if (peek() == FieldSetBuilder.WILDCARD) {
+                return "";
+            }
+
+            fail("field name");
+            return null;
+        }
+
+        final int end = position;
+        skipWhitespace();
+        if (!isFieldCharacter(peek())) {
+            return input.subSequence(start, end).toString();
+        }
+
+        // slow path: the field name is interrupted by whitespace
+        final StringBuilder sb = new StringBuilder().append(input, start, end);
+        while (isFieldCharacter(peek())) {
+            final int partStart = position;
+            skipFieldCharacters();
+            sb.append(input, partStart, position);
+            skipWhitespace();
+        }
+
+        return sb.toString();
+    }
+
+    private void skipFieldCharacters() {
+        while (position < length && isFieldCharacter(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < length && isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        return position < length ? input.charAt(position) : EOF;
+    }
+
+    @Nullable
+    private FieldPredicate fail(final String expectedToken) {
+        errorPosition = position;
+        expected = expectedToken;
+        return null;
+    }
+
+    private static boolean isFieldCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\r' || c == '\n' || c == '\t';
+    }
+}
@@ -0,0 +1,34 @@
+package org.zalando.guild.api.json.fields.java.metrics;
+
+/**
+ * Service provider interface for instrumenting parsing and filtering. The active implementation is obtained through
+ * {@link Metrics#get()}. All methods are called on hot paths, from arbitrary threads, so implementations must be thread
+ * safe and cheap, and must not throw.
+ *
+ * @since  17.10.2026
+ */
+public interface FieldsMetrics {
+
+    /**
+     * Called after an expression has been parsed successfully.
+     */
+    void expressionParsed(long elapsedNanos);
+
+    /**
+     * Called after an expression has been rejected as invalid.
+     */
+    void expressionRejected(long elapsedNanos);
+
+    /**
+     * Called for every lookup in a {@link org.zalando.guild.api.json.fields.java.expression.FieldPredicateCache},
+     * with true if the expression was cached.
+     */
+    void cacheLookup(boolean hit);
+
+    /**
+     * Called when properties of an object at the supplied depth (1 for the properties of the root object) have been
+     * evaluated, with the number of evaluated and included properties. Depending on the filtering mode, this is called
+     * per property or per object.
+     */
+    void propertiesFiltered(int depth, int evaluated, int included);
+}
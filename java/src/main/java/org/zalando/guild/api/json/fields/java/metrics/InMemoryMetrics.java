@@ -0,0 +1,172 @@
+package org.zalando.guild.api.json.fields.java.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nonnull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * A {@link FieldsMetrics} implementation that keeps counters and a parse latency histogram in memory, and can be
+ * registered as MXBean. Counters are striped by thread, so that serializations on many threads don't contend for them;
+ * a snapshot of a counter taken during concurrent updates is not exact, and neither is one of several counters.
+ *
+ * @since  17.10.2026
+ */
+public final class InMemoryMetrics implements FieldsMetrics, InMemoryMetricsMXBean {
+
+    /**
+     * The default object name for {@link #registerMBean()}.
+     */
+    public static final String DEFAULT_OBJECT_NAME = "org.zalando.guild.api.json.fields:type=Metrics";
+
+    static final int HISTOGRAM_BUCKETS = 32;
+
+    private final StripedCounter parses = new StripedCounter();
+    private final StripedCounter parseFailures = new StripedCounter();
+    private final AtomicLongArray parseLatencies = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private final StripedCounter cacheHits = new StripedCounter();
+    private final StripedCounter cacheMisses = new StripedCounter();
+    private final StripedCounter propertiesEvaluated = new StripedCounter();
+    private final StripedCounter propertiesIncluded = new StripedCounter();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    private InMemoryMetrics() { }
+
+    @Nonnull
+    public static InMemoryMetrics inMemoryMetrics() {
+        return new InMemoryMetrics();
+    }
+
+    /**
+     * Register this instance with the platform MBean server under {@link #DEFAULT_OBJECT_NAME} and return the name.
+     *
+     * @exception  JMException  if the registration fails, e.g. because the name is taken
+     */
+    @Nonnull
+    public ObjectName registerMBean() throws JMException {
+        final ObjectName name = new ObjectName(DEFAULT_OBJECT_NAME);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        return name;
+    }
+
+    @Override
+    public void expressionParsed(final long elapsedNanos) {
+        parses.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    @Override
+    public void expressionRejected(final long elapsedNanos) {
+        parseFailures.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    @Override
+    public void cacheLookup(final boolean hit) {
+        (hit ? cacheHits : cacheMisses).increment();
+    }
+
+    @Override
+    public void propertiesFiltered(final int depth, final int evaluated, final int included) {
+        propertiesEvaluated.add(evaluated);
+        propertiesIncluded.add(included);
+
+        // only written while the maximum grows, so this doesn't contend once it has been reached
+        int current = maxDepth.get();
+        while (depth > current && !maxDepth.compareAndSet(current, depth)) {
+            current = maxDepth.get();
+        }
+    }
+
+    private void recordLatency(final long elapsedNanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        final int bucket = Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        parseLatencies.incrementAndGet(bucket);
+    }
+
+    @Override
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    @Override
+    public long getParseFailureCount() {
+        return parseFailures.sum();
+    }
+
+    @Override
+    public long[] getParseLatencyHistogram() {
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = parseLatencies.get(i);
+        }
+
+        return histogram;
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        final long hits = cacheHits.sum();
+        final long lookups = hits + cacheMisses.sum();
+        return lookups == 0 ? 1 : (double) hits / lookups;
+    }
+
+    @Override
+    public long getPropertiesEvaluated() {
+        return propertiesEvaluated.sum();
+    }
+
+    @Override
+    public long getPropertiesIncluded() {
+        return propertiesIncluded.sum();
+    }
+
+    @Override
+    public long getPropertiesExcluded() {
+        return propertiesEvaluated.sum() - propertiesIncluded.sum();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    @Override
+    public void reset() {
+        parses.reset();
+        parseFailures.reset();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            parseLatencies.set(i, 0);
+        }
+
+        cacheHits.reset();
+        cacheMisses.reset();
+        propertiesEvaluated.reset();
+        propertiesIncluded.reset();
+        maxDepth.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "InMemoryMetrics(parses=%d, failures=%d, cacheHitRatio=%.2f, evaluated=%d, included=%d, maxDepth=%d)",
+                getParseCount(), getParseFailureCount(), getCacheHitRatio(), getPropertiesEvaluated(),
+                getPropertiesIncluded(), getMaxDepth());
+    }
+}
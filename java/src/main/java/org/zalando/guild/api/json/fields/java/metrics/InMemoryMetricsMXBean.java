@@ -0,0 +1,44 @@
+package org.zalando.guild.api.json.fields.java.metrics;
+
+/**
+ * The JMX view of {@link InMemoryMetrics}.
+ *
+ * @since  17.10.2026
+ */
+public interface InMemoryMetricsMXBean {
+
+    long getParseCount();
+
+    long getParseFailureCount();
+
+    /**
+     * The number of parses (successful or not) by latency: the entry at index i counts the parses that took less than
+     * 2^i microseconds, but not less than 2^(i-1).
+     */
+    long[] getParseLatencyHistogram();
+
+    long getCacheHitCount();
+
+    long getCacheMissCount();
+
+    /**
+     * The ratio of cache hits to cache lookups, or 1 if there were no lookups.
+     */
+    double getCacheHitRatio();
+
+    long getPropertiesEvaluated();
+
+    long getPropertiesIncluded();
+
+    long getPropertiesExcluded();
+
+    /**
+     * The maximum depth of any evaluated property.
+     */
+    int getMaxDepth();
+
+    /**
+     * Reset all counters.
+     */
+    void reset();
+}
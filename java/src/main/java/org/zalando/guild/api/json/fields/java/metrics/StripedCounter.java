@@ -0,0 +1,57 @@
+package org.zalando.guild.api.json.fields.java.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter that spreads its updates over cells selected by thread, so that threads counting concurrently rarely write
+ * to the same cache line. Reading sums up all cells, so a sum taken during concurrent updates is not exact.
+ *
+ * @since  17.10.2026
+ */
+final class StripedCounter {
+
+    /**
+     * The number of longs per cell, so that no two cells share a cache line.
+     */
+    private static final int PADDING = 8;
+
+    private static final int STRIPES = stripes();
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    void increment() {
+        add(1);
+    }
+
+    void add(final long delta) {
+        cells.addAndGet(((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING, delta);
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += cells.get(i * PADDING);
+        }
+
+        return sum;
+    }
+
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    /**
+     * Return the smallest power of two that is at least twice the number of processors.
+     */
+    private static int stripes() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        int stripes = 1;
+        while (stripes < processors * 2) {
+            stripes <<= 1;
+        }
+
+        return stripes;
+    }
+}
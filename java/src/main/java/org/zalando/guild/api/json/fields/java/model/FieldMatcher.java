@@ -0,0 +1,43 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An incremental alternative to {@link FieldPredicate}. A FieldMatcher represents a position within a field hierarchy,
+ * so that testing a child field only costs a single step from its parent, instead of re-checking the whole hierarchy.
+ *
+ * <p>E.g. for the field hierarchy {@code ["foo", "bar"]}, the result of {@code
+ * matcher.descend("foo").descend("bar").matches()} is the same as that of {@code predicate.apply(["foo", "bar"])},
+ * where {@code matcher} is the root matcher for {@code predicate}. Root matchers are obtained through
+ * {@link FieldMatchers#matcher(FieldPredicate)}.
+ *
+ * <p>Implementations are immutable and may be shared between threads.
+ *
+ * @since  17.10.2026
+ */
+public interface FieldMatcher {
+
+    /**
+     * Return true if the field hierarchy leading to this matcher should be rendered. The result for a root matcher
+     * (i.e. an empty field hierarchy) is the same as that of the underlying predicate for an empty list.
+     */
+    boolean matches();
+
+    /**
+     * Return the matcher for the field hierarchy leading to this matcher, extended by the supplied field.
+     *
+     * @exception  NullPointerException  if the supplied field is {@code null}
+     */
+    @Nonnull
+    FieldMatcher descend(@Nonnull String field);
+
+    /**
+     * Return the matcher for the field hierarchy leading to this matcher, extended by the field with the supplied
+     * symbol. The result is the same as that of {@code descend(FieldSymbols.name(symbol))}, but matchers of compiled
+     * predicates find it without hashing or comparing strings.
+     *
+     * @exception  IllegalArgumentException  if the symbol is unknown (see {@link FieldSymbols#name(int)})
+     */
+    @Nonnull
+    FieldMatcher descend(int symbol);
+}
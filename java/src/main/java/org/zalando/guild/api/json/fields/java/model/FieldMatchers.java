@@ -0,0 +1,196 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Factory methods for obtaining {@link FieldMatcher}s.
+ *
+ * @since  17.10.2026
+ */
+public final class FieldMatchers {
+
+    /**
+     * Maximum number of field hierarchies a single fallback matcher caches decisions for.
+     */
+    static final int MAX_CACHED_PATHS = 10000;
+
+    private static final FieldMatcher ALWAYS_FALSE = new ConstantMatcher(false);
+
+    private static final FieldMatcher ALWAYS_TRUE = new ConstantMatcher(true);
+
+    /**
+     * Return a {@link FieldMatcher} that matches everything, at any depth.
+     */
+    @Nonnull
+    public static FieldMatcher alwaysTrue() {
+        return ALWAYS_TRUE;
+    }
+
+    /**
+     * Return a {@link FieldMatcher} that matches nothing, at any depth.
+     */
+    @Nonnull
+    public static FieldMatcher alwaysFalse() {
+        return ALWAYS_FALSE;
+    }
+
+    /**
+     * Return the root {@link FieldMatcher} for the supplied {@link FieldPredicate}. Compiled predicates (see
+     * {@link FieldPredicates#compile(FieldPredicate)}) descend without allocation and in constant time per step. Other
+     * predicates fall back to applying the predicate to the full field hierarchy. The fallback memoizes its decisions,
+     * so callers should reuse the returned matcher for as long as the predicate is in use.
+     */
+    @Nonnull
+    public static FieldMatcher matcher(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+        if (predicate instanceof FieldTrie) {
+            return ((FieldTrie) predicate).matcher();
+        } else if (predicate == FieldPredicates.alwaysTrue()) {
+            return ALWAYS_TRUE;
+        } else if (predicate == FieldPredicates.alwaysFalse()) {
+            return ALWAYS_FALSE;
+        }
+
+        return new PathMatcher(predicate, null, null, 0, new AtomicInteger(MAX_CACHED_PATHS));
+    }
+
+    /**
+     * Return whether descending from the supplied matcher into any field that is not in the supplied set of field names
+     * could match. This is exact for the constant matchers, conservative for compiled predicates and always true for
+     * other predicates. Callers can use it to avoid computing fields whose names are not known in advance, e.g. the
+     * entries of a map.
+     */
+    public static boolean mayMatchOtherFields(@Nonnull final FieldMatcher matcher,
+            @Nonnull final Set<String> fields) {
+        checkNotNull(matcher, "Matcher required");
+        checkNotNull(fields, "Fields required");
+        return FieldTrie.mayMatchOtherFields(matcher, fields);
+    }
+
+    private FieldMatchers() { }
+
+    static final class ConstantMatcher implements FieldMatcher {
+        private final boolean matches;
+
+        ConstantMatcher(final boolean matches) {
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean matches() {
+            return matches;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(@Nonnull final String field) {
+            checkNotNull(field, "Field required");
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(final int symbol) {
+            FieldSymbols.name(symbol);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(matches);
+        }
+    }
+
+    /**
+     * Fallback for arbitrary predicates: keeps track of the field hierarchy and applies the predicate to it. Decisions
+     * are memoized, i.e. the predicate is applied at most once per field hierarchy, and descending into a known field
+     * returns the same matcher again. To keep memory bounded, a root and all its descendants share a budget of cached
+     * children. Once it is exhausted, new children are still evaluated, but no longer cached.
+     */
+    private static final class PathMatcher implements FieldMatcher {
+        private static final int UNKNOWN = 0;
+        private static final int MATCHES = 1;
+        private static final int DOESNT_MATCH = 2;
+
+        private final FieldPredicate predicate;
+        private final PathMatcher parent;
+        private final String field;
+        private final int depth;
+        private final AtomicInteger budget;
+        private final ConcurrentMap<String, PathMatcher> children = new ConcurrentHashMap<>(4, 0.75f, 1);
+        private volatile int state = UNKNOWN;
+
+        PathMatcher(final FieldPredicate predicate, final PathMatcher parent, final String field, final int depth,
+                final AtomicInteger budget) {
+            this.predicate = predicate;
+            this.parent = parent;
+            this.field = field;
+            this.depth = depth;
+            this.budget = budget;
+        }
+
+        @Override
+        public boolean matches() {
+            int current = state;
+            if (current == UNKNOWN) {
+                current = predicate.apply(fieldHierarchy()) ? MATCHES : DOESNT_MATCH;
+                state = current;
+            }
+
+            return current == MATCHES;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(@Nonnull final String child) {
+            checkNotNull(child, "Field required");
+
+            final PathMatcher cached = children.get(child);
+            if (cached != null) {
+                return cached;
+            }
+
+            final PathMatcher created = new PathMatcher(predicate, this, child, depth + 1, budget);
+            if (budget.get() <= 0 || budget.decrementAndGet() < 0) {
+                return created;
+            }
+
+            final PathMatcher previous = children.putIfAbsent(child, created);
+            return previous == null ? created : previous;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(final int symbol) {
+            return descend(FieldSymbols.name(symbol));
+        }
+
+        private List<String> fieldHierarchy() {
+            if (depth == 0) {
+                return Collections.emptyList();
+            }
+
+            final String[] fields = new String[depth];
+            for (PathMatcher current = this; current.depth > 0; current = current.parent) {
+                fields[current.depth - 1] = current.field;
+            }
+
+            return Arrays.asList(fields);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s at %s", predicate, fieldHierarchy());
+        }
+    }
+}
@@ -10,6 +10,10 @@ import com.google.common.base.Predicate;
  * The core abstraction for matching a hierarchy of fields. Based on this, a hierarchy of fields can be tested against a
  * fields expression.
  *
+ * <p>Implementations must be pure: the result may only depend on the supplied field hierarchy. Matchers memoize the
+ * decisions of a predicate and share them between serializations, so a predicate that consults mutable state will
+ * see stale results.
+ *
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   20.08.2015
  */
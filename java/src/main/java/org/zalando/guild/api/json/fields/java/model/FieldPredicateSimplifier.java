@@ -0,0 +1,351 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.AndPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchAnyIndexPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchIndexPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchPrefixPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.NotPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.OrPredicate;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Rewrites {@link FieldPredicate} trees into equivalent, smaller ones:
+ *
+ * <ul>
+ *   <li>nested conjunctions and disjunctions are flattened,</li>
+ *   <li>double negations are removed,</li>
+ *   <li>{@link FieldPredicates#alwaysTrue()} and {@link FieldPredicates#alwaysFalse()} are folded,</li>
+ *   <li>duplicate operands are removed, as are operands absorbed by another operand, e.g. {@code (foo,foo(bar))} or
+ *   {@code (price_*,price_eur(amount))},</li>
+ *   <li>index matches at the same index within a disjunction are merged into a single set lookup.</li>
+ * </ul>
+ *
+ * <p>Subtrees that can't be simplified are kept, so a predicate that is already minimal is returned as is.</p>
+ *
+ * @since  17.10.2026
+ */
+final class FieldPredicateSimplifier {
+
+    private FieldPredicateSimplifier() { }
+
+    static FieldPredicate simplify(final FieldPredicate predicate) {
+        if (predicate instanceof NotPredicate) {
+            return simplifyNot((NotPredicate) predicate);
+        } else if (predicate instanceof AndPredicate) {
+            final AndPredicate and = (AndPredicate) predicate;
+            return simplifyJunction(predicate, operands(and.first, and.more), false);
+        } else if (predicate instanceof OrPredicate) {
+            final OrPredicate or = (OrPredicate) predicate;
+            return simplifyJunction(predicate, operands(or.first, or.more), true);
+        }
+
+        return predicate;
+    }
+
+    private static FieldPredicate simplifyNot(final NotPredicate not) {
+        final FieldPredicate negatee = simplify(not.negatee);
+        if (negatee == FieldPredicates.alwaysTrue()) {
+            return FieldPredicates.alwaysFalse();
+        } else if (negatee == FieldPredicates.alwaysFalse()) {
+            return FieldPredicates.alwaysTrue();
+        } else if (negatee instanceof NotPredicate) {
+            return ((NotPredicate) negatee).negatee;
+        }
+
+        return negatee == not.negatee ? not : new NotPredicate(negatee);
+    }
+
+    /**
+     * Simplify a conjunction ({@code disjunction == false}) or a disjunction of the supplied operands.
+     */
+    private static FieldPredicate simplifyJunction(final FieldPredicate original, final List<FieldPredicate> operands,
+            final boolean disjunction) {
+        final FieldPredicate identity = disjunction ? FieldPredicates.alwaysFalse() : FieldPredicates.alwaysTrue();
+        final FieldPredicate absorbing = disjunction ? FieldPredicates.alwaysTrue() : FieldPredicates.alwaysFalse();
+
+        boolean changed = false;
+        final List<FieldPredicate> flattened = new ArrayList<>(operands.size());
+        for (final FieldPredicate operand : operands) {
+            final FieldPredicate simplified = simplify(operand);
+            changed |= simplified != operand;
+            if (simplified == absorbing) {
+                return absorbing;
+            } else if (simplified == identity) {
+                changed = true;
+            } else if (disjunction ? simplified instanceof OrPredicate : simplified instanceof AndPredicate) {
+                flattened.addAll(disjunction ? operands((OrPredicate) simplified)
+                                             : operands((AndPredicate) simplified));
+                changed = true;
+            } else {
+                flattened.add(simplified);
+            }
+        }
+
+        List<FieldPredicate> reduced = distinct(flattened);
+        if (disjunction) {
+            reduced = mergeIndexMatches(reduced);
+        }
+
+        reduced = absorb(reduced, disjunction);
+        changed |= reduced.size() != flattened.size();
+
+        if (!changed && reduced.size() > 1) {
+            return original;
+        } else if (reduced.isEmpty()) {
+            return identity;
+        } else if (reduced.size() == 1) {
+            return reduced.get(0);
+        }
+
+        final FieldPredicate first = reduced.get(0);
+        final List<FieldPredicate> rest = reduced.subList(1, reduced.size());
+        final FieldPredicate[] more = rest.toArray(new FieldPredicate[rest.size()]);
+        return disjunction ? new OrPredicate(first, more) : new AndPredicate(first, more);
+    }
+
+    private static List<FieldPredicate> distinct(final List<FieldPredicate> operands) {
+        final List<FieldPredicate> result = new ArrayList<>(operands.size());
+        final Set<String> indexMatches = new HashSet<>();
+        for (final FieldPredicate operand : operands) {
+            if (operand instanceof MatchIndexPredicate) {
+                final MatchIndexPredicate match = (MatchIndexPredicate) operand;
+                if (indexMatches.add(match.index + ":" + match.token)) {
+                    result.add(operand);
+                }
+            } else if (!containsEquivalent(result, operand)) {
+                result.add(operand);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Merge all index matches with the same index into one predicate, at the position of the first of them.
+     */
+    private static List<FieldPredicate> mergeIndexMatches(final List<FieldPredicate> operands) {
+        final Map<Integer, Set<String>> tokensByIndex = new LinkedHashMap<>();
+        final Map<Integer, Integer> countByIndex = new LinkedHashMap<>();
+        boolean mergeable = false;
+        for (final FieldPredicate operand : operands) {
+            final Integer index = indexOf(operand);
+            if (index != null) {
+                Set<String> tokens = tokensByIndex.get(index);
+                if (tokens == null) {
+                    tokens = new LinkedHashSet<>();
+                    tokensByIndex.put(index, tokens);
+                    countByIndex.put(index, 0);
+                }
+
+                tokens.addAll(tokensOf(operand));
+
+                final int count = countByIndex.get(index) + 1;
+                countByIndex.put(index, count);
+                mergeable |= count > 1;
+            }
+        }
+
+        if (!mergeable) {
+            return operands;
+        }
+
+        final List<FieldPredicate> result = new ArrayList<>(operands.size());
+        for (final FieldPredicate operand : operands) {
+            final Integer index = indexOf(operand);
+            if (index == null || countByIndex.get(index) == 1) {
+                result.add(operand);
+            } else {
+                final Set<String> tokens = tokensByIndex.remove(index);
+                if (tokens != null) {
+                    result.add(new MatchAnyIndexPredicate(index, TokenSet.copyOf(tokens)));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove the operands that are absorbed by another operand: in a disjunction, a conjunction is absorbed by an
+     * operand implied by one of its conjuncts, e.g. {@code a OR (a AND b)} is {@code a}. In a conjunction, a
+     * disjunction is absorbed by an operand that implies one of its disjuncts, e.g. {@code a AND (a OR b)} is
+     * {@code a}.
+     */
+    private static List<FieldPredicate> absorb(final List<FieldPredicate> operands, final boolean disjunction) {
+        List<FieldPredicate> result = null;
+        for (int i = 0; i < operands.size(); i++) {
+            final FieldPredicate operand = operands.get(i);
+            if (isAbsorbed(operand, operands, disjunction)) {
+                if (result == null) {
+                    result = new ArrayList<>(operands.subList(0, i));
+                }
+            } else if (result != null) {
+                result.add(operand);
+            }
+        }
+
+        return result == null ? operands : result;
+    }
+
+    private static boolean isAbsorbed(final FieldPredicate operand, final List<FieldPredicate> operands,
+            final boolean disjunction) {
+        final List<FieldPredicate> inner;
+        if (disjunction && operand instanceof AndPredicate) {
+            inner = operands((AndPredicate) operand);
+        } else if (!disjunction && operand instanceof OrPredicate) {
+            inner = operands((OrPredicate) operand);
+        } else {
+            return false;
+        }
+
+        for (final FieldPredicate other : operands) {
+            if (other == operand) {
+                continue;
+            }
+
+            for (final FieldPredicate innerOperand : inner) {
+                if (disjunction ? implies(innerOperand, other) : implies(other, innerOperand)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Conservatively determine whether the first predicate implies the second one.
+     */
+    private static boolean implies(final FieldPredicate first, final FieldPredicate second) {
+        if (equivalent(first, second)) {
+            return true;
+        }
+
+        if (second instanceof MatchPrefixPredicate) {
+            return impliesPrefix(first, (MatchPrefixPredicate) second);
+        }
+
+        final Integer firstIndex = indexOf(first);
+        return firstIndex != null && firstIndex.equals(indexOf(second))
+                && tokensOf(second).containsAll(tokensOf(first));
+    }
+
+    /**
+     * Return whether the supplied predicate only matches fields that start with the prefix of the supplied pattern
+     * match, e.g. {@code price_eur} and {@code price_e*} imply {@code price_*}.
+     */
+    private static boolean impliesPrefix(final FieldPredicate predicate, final MatchPrefixPredicate pattern) {
+        if (predicate instanceof MatchPrefixPredicate) {
+            final MatchPrefixPredicate match = (MatchPrefixPredicate) predicate;
+            return match.index == pattern.index && match.prefix.startsWith(pattern.prefix);
+        }
+
+        final Integer index = indexOf(predicate);
+        if (index == null || index != pattern.index) {
+            return false;
+        }
+
+        for (final String token : tokensOf(predicate)) {
+            if (!token.startsWith(pattern.prefix)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean containsEquivalent(final List<FieldPredicate> predicates, final FieldPredicate predicate) {
+        for (final FieldPredicate candidate : predicates) {
+            if (equivalent(candidate, predicate)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return whether both predicates have the same structure.
+     */
+    private static boolean equivalent(final FieldPredicate first, final FieldPredicate second) {
+        if (first == second) {
+            return true;
+        } else if (first.getClass() != second.getClass()) {
+            return false;
+        } else if (first instanceof MatchIndexPredicate || first instanceof MatchAnyIndexPredicate) {
+            return indexOf(first).equals(indexOf(second)) && tokensOf(first).equals(tokensOf(second));
+        } else if (first instanceof MatchPrefixPredicate) {
+            final MatchPrefixPredicate firstMatch = (MatchPrefixPredicate) first;
+            final MatchPrefixPredicate secondMatch = (MatchPrefixPredicate) second;
+            return firstMatch.index == secondMatch.index && firstMatch.prefix.equals(secondMatch.prefix);
+        } else if (first instanceof NotPredicate) {
+            return equivalent(((NotPredicate) first).negatee, ((NotPredicate) second).negatee);
+        } else if (first instanceof AndPredicate) {
+            return equivalent(operands((AndPredicate) first), operands((AndPredicate) second));
+        } else if (first instanceof OrPredicate) {
+            return equivalent(operands((OrPredicate) first), operands((OrPredicate) second));
+        }
+
+        return false;
+    }
+
+    private static boolean equivalent(final List<FieldPredicate> first, final List<FieldPredicate> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < first.size(); i++) {
+            if (!equivalent(first.get(i), second.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the index of an index match, or null for other predicates.
+     */
+    private static Integer indexOf(final FieldPredicate predicate) {
+        if (predicate instanceof MatchIndexPredicate) {
+            return ((MatchIndexPredicate) predicate).index;
+        } else if (predicate instanceof MatchAnyIndexPredicate) {
+            return ((MatchAnyIndexPredicate) predicate).index;
+        }
+
+        return null;
+    }
+
+    private static Set<String> tokensOf(final FieldPredicate predicate) {
+        if (predicate instanceof MatchIndexPredicate) {
+            return ImmutableSet.of(((MatchIndexPredicate) predicate).token);
+        }
+
+        return ((MatchAnyIndexPredicate) predicate).tokens;
+    }
+
+    private static List<FieldPredicate> operands(final AndPredicate and) {
+        return operands(and.first, and.more);
+    }
+
+    private static List<FieldPredicate> operands(final OrPredicate or) {
+        return operands(or.first, or.more);
+    }
+
+    private static List<FieldPredicate> operands(final FieldPredicate first, final FieldPredicate[] more) {
+        final List<FieldPredicate> operands = new ArrayList<>(more.length + 1);
+        operands.add(first);
+        operands.addAll(Arrays.asList(more));
+        return operands;
+    }
+}
@@ -1,9 +1,11 @@
 package org.zalando.guild.api.json.fields.java.model;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
@@ -75,6 +77,62 @@ public final class FieldPredicates {
 
     }
 
+    /**
+     * Return a {@link FieldPredicate} that returns true if the field at the supplied offset starts with the supplied
+     * prefix (or if the list doesn't contain that many items). This is the predicate of a field pattern like
+     * {@code price_*}; the empty prefix, i.e. the pattern {@code *}, matches any field.
+     */
+    @Nonnull
+    public static FieldPredicate matchPrefix(final int index, @Nonnull final String prefix) {
+        checkNotNull(prefix, "Prefix required");
+        return new MatchPrefixPredicate(index, prefix);
+    }
+
+    /**
+     * Return a {@link FieldPredicate} that returns true if the field at the supplied offset equals any of the supplied
+     * tokens (or if the list doesn't contain that many items). It is equivalent to the disjunction of
+     * {@link #matchIndex(int, String)} predicates for the tokens, but the tokens are looked up in a hash table, so the
+     * cost of matching doesn't grow with the number of tokens.
+     */
+    @Nonnull
+    public static FieldPredicate matchIndexAnyOf(final int index, @Nonnull final Set<String> tokens) {
+        checkNotNull(tokens, "Tokens required");
+        checkArgument(!tokens.isEmpty(), "At least one token required");
+        for (final String token : tokens) {
+            checkNotNull(token, "Token required");
+        }
+
+        return tokens.size() == 1 ? new MatchIndexPredicate(index, tokens.iterator().next())
+                                  : new MatchAnyIndexPredicate(index, TokenSet.copyOf(tokens));
+    }
+
+    /**
+     * Return a {@link FieldPredicate} with the same semantics as the supplied one. If the supplied predicate has the
+     * shape of a parsed fields expression, it is compiled into a trie of field names, so that matching costs one hash
+     * lookup per level of the field hierarchy, plus one pass over the characters of fields that are only matched by
+     * field patterns. Other predicates are simplified (see {@link #simplify(FieldPredicate)}).
+     */
+    @Nonnull
+    public static FieldPredicate compile(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+
+        final FieldPredicate simplified = FieldPredicateSimplifier.simplify(predicate);
+        final FieldPredicate trie = FieldTrie.compile(simplified);
+        return trie == null ? simplified : trie;
+    }
+
+    /**
+     * Return an equivalent {@link FieldPredicate} without redundancy: nested conjunctions and disjunctions are
+     * flattened, double negations, constants, duplicates and absorbed operands are removed, and index matches at the
+     * same index within a disjunction are merged into a single set lookup. If nothing can be simplified, the supplied
+     * predicate is returned.
+     */
+    @Nonnull
+    public static FieldPredicate simplify(@Nonnull final FieldPredicate predicate) {
+        checkNotNull(predicate, "Predicate required");
+        return FieldPredicateSimplifier.simplify(predicate);
+    }
+
     private FieldPredicates() { }
 
     private static FieldPredicate[] defensiveCopyOfPredicateArray(final FieldPredicate[] fieldPredicates) {
@@ -83,9 +141,9 @@ public final class FieldPredicates {
                                            : Arrays.copyOf(fieldPredicates, fieldPredicates.length);
     }
 
-    private static class AndPredicate implements FieldPredicate {
-        private final FieldPredicate first;
-        private final FieldPredicate[] more;
+    static class AndPredicate implements FieldPredicate {
+        final FieldPredicate first;
+        final FieldPredicate[] more;
 
         public AndPredicate(final FieldPredicate first, final FieldPredicate... more) {
             this.first = first;
@@ -119,8 +177,8 @@ public final class FieldPredicates {
         }
     }
 
-    private static class NotPredicate implements FieldPredicate {
-        private final FieldPredicate negatee;
+    static class NotPredicate implements FieldPredicate {
+        final FieldPredicate negatee;
 
         public NotPredicate(final FieldPredicate negatee) {
             this.negatee = negatee;
@@ -137,9 +195,9 @@ public final class FieldPredicates {
         }
     }
 
-    private static class OrPredicate implements FieldPredicate {
-        private final FieldPredicate first;
-        private final FieldPredicate[] more;
+    static class OrPredicate implements FieldPredicate {
+        final FieldPredicate first;
+        final FieldPredicate[] more;
 
         public OrPredicate(final FieldPredicate first, final FieldPredicate... more) {
             this.first = first;
@@ -173,7 +231,7 @@ public final class FieldPredicates {
         }
     }
 
-    private static class AlwaysFalsePredicate implements FieldPredicate {
+    static class AlwaysFalsePredicate implements FieldPredicate {
         @Override
         public boolean apply(@Nonnull final List<String> tokens) {
             return false;
@@ -185,7 +243,7 @@ public final class FieldPredicates {
         }
     }
 
-    private static class AlwaysTruePredicate implements FieldPredicate {
+    static class AlwaysTruePredicate implements FieldPredicate {
         @Override
         public boolean apply(@Nonnull final List<String> tokens) {
             return true;
@@ -197,9 +255,55 @@ public final class FieldPredicates {
         }
     }
 
-    private static class MatchIndexPredicate implements FieldPredicate {
-        private final int index;
-        private final String token;
+    /**
+     * The disjunction of index matches at the same index, see {@link #matchIndexAnyOf(int, Set)}.
+     */
+    static class MatchAnyIndexPredicate implements FieldPredicate {
+        final int index;
+        final TokenSet tokens;
+
+        public MatchAnyIndexPredicate(final int index, final TokenSet tokens) {
+            this.index = index;
+            this.tokens = tokens;
+        }
+
+        @Override
+        public boolean apply(@Nonnull final List<String> tokenList) {
+            return tokenList.size() <= index || tokens.contains(tokenList.get(index));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("match any of %s at index %d", tokens, index);
+        }
+    }
+
+    /**
+     * The match of a field pattern, see {@link #matchPrefix(int, String)}.
+     */
+    static class MatchPrefixPredicate implements FieldPredicate {
+        final int index;
+        final String prefix;
+
+        public MatchPrefixPredicate(final int index, final String prefix) {
+            this.index = index;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean apply(@Nonnull final List<String> tokens) {
+            return tokens.size() <= index || tokens.get(index).startsWith(prefix);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("match '%s*' at index %d", prefix, index);
+        }
+    }
+
+    static class MatchIndexPredicate implements FieldPredicate {
+        final int index;
+        final String token;
 
         public MatchIndexPredicate(final int index, final String token) {
             this.index = index;
@@ -0,0 +1,123 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A global table of field names, which assigns every name a small, non-negative integer symbol. Symbols are stable
+ * for the lifetime of the class loader, so callers that know their field names in advance (e.g. the properties of a
+ * bean) can resolve them once and descend through {@link FieldMatcher#descend(int)}, which compiled predicates
+ * implement with integer comparisons only.
+ *
+ * <p>Names are added by callers that descend by symbol, e.g. for the properties of a bean, never for the field names of
+ * compiled predicates, which may come from user input. Compiled predicates only look their names up, and pick up
+ * symbols assigned later when they are first descended by one. The table is bounded nevertheless: once it holds
+ * {@link #MAX_SYMBOLS} names, new names don't get a symbol, and callers have to use
+ * {@link FieldMatcher#descend(String)} for them.</p>
+ *
+ * <p>This class is thread safe. Adding names is synchronized, looking them up is not.</p>
+ *
+ * @since  17.10.2026
+ */
+public final class FieldSymbols {
+
+    /**
+     * Returned for names that don't have a symbol.
+     */
+    public static final int NO_SYMBOL = -1;
+
+    /**
+     * The maximum number of names in the table.
+     */
+    static final int MAX_SYMBOLS = 1 << 16;
+
+    private static final ConcurrentMap<String, Integer> SYMBOLS = new ConcurrentHashMap<>();
+
+    /**
+     * The names by symbol. A new array is published before the symbols that refer to its new entries.
+     */
+    private static volatile String[] names = new String[64];
+
+    /**
+     * The number of names, guarded by the class lock.
+     */
+    private static int size;
+
+    /**
+     * The number of names whose symbols can be looked up, written after the lookup table has been updated.
+     */
+    private static volatile int count;
+
+    private FieldSymbols() { }
+
+    /**
+     * Return the symbol of the supplied field name, adding the name to the table if necessary, or {@link #NO_SYMBOL}
+     * if the name is not in the table and the table is full.
+     */
+    public static int symbol(@Nonnull final String name) {
+        checkNotNull(name, "Name required");
+
+        final Integer symbol = SYMBOLS.get(name);
+        return symbol == null ? add(name) : symbol;
+    }
+
+    /**
+     * Return the symbol of the supplied field name, or {@link #NO_SYMBOL} if the name is not in the table. Unlike
+     * {@link #symbol(String)}, this never adds a name, so it is safe to call with arbitrary input.
+     */
+    public static int lookup(@Nonnull final String name) {
+        checkNotNull(name, "Name required");
+
+        final Integer symbol = SYMBOLS.get(name);
+        return symbol == null ? NO_SYMBOL : symbol;
+    }
+
+    /**
+     * Return the number of assigned symbols. All symbols below it can be looked up by {@link #lookup(String)}.
+     */
+    static int count() {
+        return count;
+    }
+
+    /**
+     * Return the field name of the supplied symbol.
+     *
+     * @exception  IllegalArgumentException  if the symbol has not been returned by {@link #symbol(String)}
+     */
+    @Nonnull
+    public static String name(final int symbol) {
+        final String[] current = names;
+        final String name = symbol >= 0 && symbol < current.length ? current[symbol] : null;
+        if (name == null) {
+            throw new IllegalArgumentException("Unknown symbol " + symbol);
+        }
+
+        return name;
+    }
+
+    private static synchronized int add(final String name) {
+        final Integer existing = SYMBOLS.get(name);
+        if (existing != null) {
+            return existing;
+        } else if (size == MAX_SYMBOLS) {
+            return NO_SYMBOL;
+        }
+
+        String[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+
+        final int symbol = size++;
+        current[symbol] = name;
+        names = current;
+        SYMBOLS.put(name, symbol);
+        count = size;
+        return symbol;
+    }
+}
@@ -0,0 +1,876 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.AndPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchAnyIndexPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchIndexPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchPrefixPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.NotPredicate;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.OrPredicate;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * A {@link FieldPredicate} compiled into a trie of field names. Every node of the trie represents a (possibly negated)
+ * field set at one level of the field hierarchy, so matching a field hierarchy costs one hash lookup per level,
+ * regardless of the number of fields in the expression.
+ *
+ * <p>Field patterns like {@code price_*} are kept in a character trie per node. Field names that are listed
+ * explicitly are merged with the patterns that match them when the trie is compiled, so they are still found with a
+ * single hash lookup. Other field names are matched against all patterns in one pass over their characters, no matter
+ * how many patterns there are.</p>
+ *
+ * <p>Instances are created through {@link FieldPredicates#compile(FieldPredicate)}. They have exactly the same
+ * semantics as the predicate they were compiled from.
+ *
+ * @since  17.10.2026
+ */
+final class FieldTrie implements FieldPredicate {
+
+    private final Node root;
+
+    private FieldTrie(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile the supplied predicate into a trie, or return null if the predicate doesn't have the shape of a parsed
+     * fields expression, i.e. {@code E(d) := NOT(E(d)) | FS(d)}, {@code FS(d) := OR(FS(d)+) | Q(d)} and
+     * {@code Q(d) := F(d) | AND(F(d), E(d+1))}, where {@code F(d)} is an index or prefix match at depth d.
+     */
+    @Nullable
+    static FieldTrie compile(@Nonnull final FieldPredicate predicate) {
+        final Node root = expression(predicate, 0);
+        return root == null ? null : new FieldTrie(root);
+    }
+
+    @Override
+    public boolean apply(@Nonnull final List<String> fieldHierarchy) {
+        return root.evaluate(fieldHierarchy, 0);
+    }
+
+    /**
+     * Return the root {@link FieldMatcher} of this trie. Matchers for all nodes are created along with the trie, so
+     * descending through them doesn't allocate.
+     */
+    FieldMatcher matcher() {
+        return root.matcher(false);
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    @Nullable
+    private static Node expression(final FieldPredicate predicate, final int depth) {
+        FieldPredicate current = predicate;
+        boolean negated = false;
+        while (current instanceof NotPredicate) {
+            negated = !negated;
+            current = ((NotPredicate) current).negatee;
+        }
+
+        final FieldSet fieldSet = new FieldSet();
+        return fieldSet.collect(current, depth) ? fieldSet.build(negated) : null;
+    }
+
+    /**
+     * A (possibly negated) field set at one level of the field hierarchy.
+     */
+    static final class Node {
+        final boolean negated;
+
+        /**
+         * The entries of the field set as written, by field name or by pattern (the prefix followed by '*').
+         */
+        final ImmutableMap<String, Child> children;
+
+        /**
+         * The entries by field name, each merged with the entries of the patterns that match the name.
+         */
+        final ImmutableMap<String, Child> fields;
+
+        /**
+         * The entries of the patterns, merged with those of shorter matching patterns, or null if there are none.
+         */
+        @Nullable
+        final PrefixIndex patterns;
+
+        /**
+         * The index of the fields by symbol, replaced when a symbol is looked up that was assigned after it had been
+         * created.
+         */
+        volatile SymbolIndex symbolIndex;
+
+        /**
+         * The result for field hierarchies that end before this node. Index-based matches are true beyond the end of
+         * the field hierarchy, so this is decided by the leaves and sub nodes alone.
+         */
+        final boolean matchesEnd;
+
+        private final NodeMatcher matcher;
+        private final NodeMatcher invertedMatcher;
+
+        Node(final boolean negated, final ImmutableMap<String, Child> children,
+                final ImmutableMap<String, Child> fields, @Nullable final PrefixIndex patterns) {
+            this.negated = negated;
+            this.children = children;
+            this.fields = fields;
+            this.patterns = patterns;
+            this.symbolIndex = new SymbolIndex(fields);
+            this.matcher = new NodeMatcher(this, false);
+            this.invertedMatcher = new NodeMatcher(this, true);
+
+            boolean fieldSetMatchesEnd = false;
+            for (final Child child : children.values()) {
+                fieldSetMatchesEnd |= child.matchesEnd();
+            }
+
+            this.matchesEnd = negated ^ fieldSetMatchesEnd;
+        }
+
+        NodeMatcher matcher(final boolean inverted) {
+            return inverted ? invertedMatcher : matcher;
+        }
+
+        /**
+         * Return the entry for the supplied field name, or null if the field set doesn't contain it.
+         */
+        @Nullable
+        Child child(final String field) {
+            final Child child = fields.get(field);
+            return child != null || patterns == null ? child : patterns.get(field);
+        }
+
+        /**
+         * Evaluate this node against the fields at and after the supplied depth.
+         */
+        boolean evaluate(final List<String> fields, final int depth) {
+            Node node = this;
+            boolean inverted = false;
+            for (int i = depth; i < fields.size(); i++) {
+                final boolean flip = inverted ^ node.negated;
+                final Child child = node.child(fields.get(i));
+                if (child == null) {
+                    return flip;
+                } else if (child.isLeaf()) {
+                    return !flip;
+                } else if (child.nodes.length > 1) {
+                    return flip ^ child.anyMatches(fields, i + 1);
+                }
+
+                node = child.nodes[0];
+                inverted = flip;
+            }
+
+            return inverted ^ node.matchesEnd;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            if (negated) {
+                sb.append('!');
+            }
+
+            sb.append('(');
+
+            boolean first = true;
+            for (final Map.Entry<String, Child> entry : children.entrySet()) {
+                final Child child = entry.getValue();
+                if (child.isLeaf()) {
+                    first = appendSeparator(sb, first);
+                    sb.append(entry.getKey());
+                }
+
+                for (final Node node : child.nodes) {
+                    first = appendSeparator(sb, first);
+                    sb.append(entry.getKey()).append(node);
+                }
+            }
+
+            return sb.append(')').toString();
+        }
+
+        private static boolean appendSeparator(final StringBuilder sb, final boolean first) {
+            if (!first) {
+                sb.append(',');
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The entry for a field name within a field set. A leaf matches unconditionally, otherwise the entry matches if at
+     * least one of its sub nodes matches.
+     */
+    static final class Child {
+        static final Child LEAF = new Child(new Node[0]);
+
+        final Node[] nodes;
+
+        private final FieldMatcher matcher;
+        private final FieldMatcher invertedMatcher;
+
+        Child(final Node[] nodes) {
+            this.nodes = nodes;
+            if (nodes.length == 0) {
+                this.matcher = FieldMatchers.alwaysTrue();
+                this.invertedMatcher = FieldMatchers.alwaysFalse();
+            } else if (nodes.length == 1) {
+                this.matcher = nodes[0].matcher(false);
+                this.invertedMatcher = nodes[0].matcher(true);
+            } else {
+                final FieldMatcher[] alternatives = new FieldMatcher[nodes.length];
+                for (int i = 0; i < nodes.length; i++) {
+                    alternatives[i] = nodes[i].matcher(false);
+                }
+
+                this.matcher = new AnyOfMatcher(alternatives, false);
+                this.invertedMatcher = new AnyOfMatcher(alternatives, true);
+            }
+        }
+
+        boolean isLeaf() {
+            return nodes.length == 0;
+        }
+
+        FieldMatcher matcher(final boolean inverted) {
+            return inverted ? invertedMatcher : matcher;
+        }
+
+        boolean matchesEnd() {
+            if (isLeaf()) {
+                return true;
+            }
+
+            for (final Node node : nodes) {
+                if (node.matchesEnd) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        boolean anyMatches(final List<String> fields, final int depth) {
+            for (final Node node : nodes) {
+                if (node.evaluate(fields, depth)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The matcher for a node, optionally inverted by the negations of its ancestors.
+     */
+    static final class NodeMatcher implements FieldMatcher {
+        final Node node;
+        private final boolean inverted;
+
+        NodeMatcher(final Node node, final boolean inverted) {
+            this.node = node;
+            this.inverted = inverted;
+        }
+
+        @Override
+        public boolean matches() {
+            return inverted ^ node.matchesEnd;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(@Nonnull final String field) {
+            final boolean flip = inverted ^ node.negated;
+            final Child child = node.child(checkNotNull(field, "Field required"));
+            if (child == null) {
+                return constant(flip);
+            }
+
+            return child.matcher(flip);
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(final int symbol) {
+            if (symbol < 0) {
+                throw new IllegalArgumentException("Unknown symbol " + symbol);
+            }
+
+            SymbolIndex symbolIndex = node.symbolIndex;
+            if (symbol >= symbolIndex.coveredSymbols) {
+                symbolIndex = new SymbolIndex(node.fields);
+                node.symbolIndex = symbolIndex;
+                if (symbol >= symbolIndex.coveredSymbols) {
+
+                    // validates the symbol, or it has been assigned concurrently
+                    return descend(FieldSymbols.name(symbol));
+                }
+            }
+
+            final boolean flip = inverted ^ node.negated;
+            final Child child = symbolIndex.get(symbol);
+            if (child != null) {
+                return child.matcher(flip);
+            }
+
+            return node.patterns == null ? constant(flip) : descend(FieldSymbols.name(symbol));
+        }
+
+        @Override
+        public String toString() {
+            return inverted ? "!" + node : node.toString();
+        }
+    }
+
+    /**
+     * The matcher for duplicate field names that can't be merged into a single node. Matches if at least one of the
+     * alternatives matches, optionally inverted by the negations of its ancestors.
+     *
+     * <p>Descending returns the same matcher for the same combination of descendants, so that callers can use the
+     * states of a trie as keys. The number of combinations is bounded by the trie, but is capped nevertheless.</p>
+     */
+    static final class AnyOfMatcher implements FieldMatcher {
+        private static final int MAX_DESCENTS = 256;
+
+        private final FieldMatcher[] alternatives;
+        private final boolean inverted;
+
+        /**
+         * Memoized descendants by the remaining descendants of the alternatives.
+         */
+        private final ConcurrentMap<List<FieldMatcher>, FieldMatcher> descents = new ConcurrentHashMap<>(4, 0.75f,
+                1);
+
+        AnyOfMatcher(final FieldMatcher[] alternatives, final boolean inverted) {
+            this.alternatives = alternatives;
+            this.inverted = inverted;
+        }
+
+        @Override
+        public boolean matches() {
+            for (final FieldMatcher alternative : alternatives) {
+                if (alternative.matches()) {
+                    return !inverted;
+                }
+            }
+
+            return inverted;
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(@Nonnull final String field) {
+            final FieldMatcher[] descendants = new FieldMatcher[alternatives.length];
+            for (int i = 0; i < alternatives.length; i++) {
+                descendants[i] = alternatives[i].descend(field);
+            }
+
+            return anyOf(descendants);
+        }
+
+        @Nonnull
+        @Override
+        public FieldMatcher descend(final int symbol) {
+            final FieldMatcher[] descendants = new FieldMatcher[alternatives.length];
+            for (int i = 0; i < alternatives.length; i++) {
+                descendants[i] = alternatives[i].descend(symbol);
+            }
+
+            return anyOf(descendants);
+        }
+
+        private FieldMatcher anyOf(final FieldMatcher[] descendants) {
+            final List<FieldMatcher> remaining = new ArrayList<>(descendants.length);
+            for (final FieldMatcher descendant : descendants) {
+                if (descendant == FieldMatchers.alwaysTrue()) {
+                    return constant(!inverted);
+                } else if (descendant != FieldMatchers.alwaysFalse()) {
+                    remaining.add(descendant);
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                return constant(inverted);
+            } else if (remaining.size() == 1 && !(inverted && remaining.get(0) instanceof AnyOfMatcher)) {
+                return inverted ? invert(remaining.get(0)) : remaining.get(0);
+            }
+
+            final FieldMatcher cached = descents.get(remaining);
+            if (cached != null) {
+                return cached;
+            }
+
+            final FieldMatcher created;
+            if (remaining.size() == 1) {
+                created = invert(remaining.get(0));
+            } else {
+                created = new AnyOfMatcher(remaining.toArray(new FieldMatcher[remaining.size()]), inverted);
+            }
+
+            if (descents.size() >= MAX_DESCENTS) {
+                return created;
+            }
+
+            final FieldMatcher previous = descents.putIfAbsent(remaining, created);
+            return previous == null ? created : previous;
+        }
+
+        private static FieldMatcher invert(final FieldMatcher matcher) {
+            if (matcher instanceof NodeMatcher) {
+                final NodeMatcher nodeMatcher = (NodeMatcher) matcher;
+                return nodeMatcher.node.matcher(!nodeMatcher.inverted);
+            }
+
+            final AnyOfMatcher anyOfMatcher = (AnyOfMatcher) matcher;
+            return new AnyOfMatcher(anyOfMatcher.alternatives, !anyOfMatcher.inverted);
+        }
+
+        @Override
+        public String toString() {
+            return (inverted ? "!" : "") + Arrays.toString(alternatives);
+        }
+    }
+
+    /**
+     * The children of a node by the symbols of their field names (see {@link FieldSymbols}), in an open-addressed table
+     * with linear probing. Symbols are small, consecutive integers, so they are used as hash codes as they are. Field
+     * names of untrusted expressions are only looked up, never added to the symbol table, so a child may get its symbol
+     * after the index has been created. The index is exact for all symbols below {@link #coveredSymbols}, i.e. for all
+     * symbols that had been assigned when it was created; a node replaces its index when a newer symbol is looked up.
+     */
+    static final class SymbolIndex {
+        private final int[] symbols;
+        private final Child[] children;
+        private final int mask;
+
+        /**
+         * The number of symbols assigned before the index was created.
+         */
+        final int coveredSymbols;
+
+        SymbolIndex(final Map<String, Child> childrenByName) {
+
+            // read before the lookups, so that every symbol below it is seen by them
+            this.coveredSymbols = FieldSymbols.count();
+
+            int capacity = 2;
+            while (capacity < childrenByName.size() * 2) {
+                capacity <<= 1;
+            }
+
+            this.symbols = new int[capacity];
+            this.children = new Child[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(symbols, FieldSymbols.NO_SYMBOL);
+
+            for (final Map.Entry<String, Child> entry : childrenByName.entrySet()) {
+                final int symbol = FieldSymbols.lookup(entry.getKey());
+                if (symbol == FieldSymbols.NO_SYMBOL) {
+                    continue;
+                }
+
+                int slot = symbol & mask;
+                while (symbols[slot] != FieldSymbols.NO_SYMBOL) {
+                    slot = (slot + 1) & mask;
+                }
+
+                symbols[slot] = symbol;
+                children[slot] = entry.getValue();
+            }
+        }
+
+        /**
+         * Return the child with the supplied symbol, or null if there is none or the symbol is not covered.
+         */
+        @Nullable
+        Child get(final int symbol) {
+            int slot = symbol & mask;
+            int current;
+            while ((current = symbols[slot]) != FieldSymbols.NO_SYMBOL) {
+                if (current == symbol) {
+                    return children[slot];
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * The entries of the field patterns of a node in a character trie. Every trie node at the end of a pattern holds
+     * the entry of that pattern merged with the entries of all shorter patterns that match it, so the entry for a field
+     * name is that of the last pattern end on its path.
+     */
+    static final class PrefixIndex {
+        private static final char[] NO_LABELS = new char[0];
+        private static final PrefixIndex[] NO_SUCCESSORS = new PrefixIndex[0];
+
+        private char[] labels = NO_LABELS;
+        private PrefixIndex[] successors = NO_SUCCESSORS;
+
+        @Nullable
+        private Child child;
+
+        /**
+         * Create the index of the supplied entries by prefix, which must already be merged with those of shorter
+         * matching prefixes.
+         */
+        PrefixIndex(final Map<String, Child> childrenByPrefix) {
+            for (final Map.Entry<String, Child> entry : childrenByPrefix.entrySet()) {
+                final String prefix = entry.getKey();
+                PrefixIndex current = this;
+                for (int i = 0; i < prefix.length(); i++) {
+                    current = current.successorOrCreate(prefix.charAt(i));
+                }
+
+                current.child = entry.getValue();
+            }
+        }
+
+        private PrefixIndex() { }
+
+        /**
+         * Return the entry of the longest pattern that matches the supplied field name, or null if none does.
+         */
+        @Nullable
+        Child get(final String field) {
+            PrefixIndex current = this;
+            Child result = child;
+            for (int i = 0, length = field.length(); i < length; i++) {
+                current = current.successor(field.charAt(i));
+                if (current == null) {
+                    break;
+                } else if (current.child != null) {
+                    result = current.child;
+                }
+            }
+
+            return result;
+        }
+
+        @Nullable
+        private PrefixIndex successor(final char label) {
+            final char[] currentLabels = labels;
+            for (int i = 0; i < currentLabels.length; i++) {
+                if (currentLabels[i] == label) {
+                    return successors[i];
+                }
+            }
+
+            return null;
+        }
+
+        private PrefixIndex successorOrCreate(final char label) {
+            final PrefixIndex existing = successor(label);
+            if (existing != null) {
+                return existing;
+            }
+
+            final PrefixIndex created = new PrefixIndex();
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            successors = Arrays.copyOf(successors, successors.length + 1);
+            labels[labels.length - 1] = label;
+            successors[successors.length - 1] = created;
+            return created;
+        }
+    }
+
+    /**
+     * Conservatively determine whether descending from the supplied matcher into a field outside of the supplied set
+     * of field names could match.
+     */
+    static boolean mayMatchOtherFields(final FieldMatcher matcher, final Set<String> fields) {
+        if (matcher instanceof NodeMatcher) {
+            final NodeMatcher nodeMatcher = (NodeMatcher) matcher;
+            if (nodeMatcher.inverted ^ nodeMatcher.node.negated) {
+                return true;
+            }
+
+            for (final String field : nodeMatcher.node.children.keySet()) {
+                if (!fields.contains(field) && matcher.descend(field) != FieldMatchers.alwaysFalse()) {
+                    return true;
+                }
+            }
+
+            return false;
+        } else if (matcher instanceof AnyOfMatcher && !((AnyOfMatcher) matcher).inverted) {
+            for (final FieldMatcher alternative : ((AnyOfMatcher) matcher).alternatives) {
+                if (mayMatchOtherFields(alternative, fields)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        return matcher != FieldMatchers.alwaysFalse();
+    }
+
+    private static final char WILDCARD = '*';
+
+    /**
+     * Return whether the supplied entry name is a pattern. Field names can't contain the wildcard, so a name ending
+     * with it is the prefix of a pattern.
+     */
+    private static boolean isPattern(final String name) {
+        return name.indexOf(WILDCARD) >= 0;
+    }
+
+    private static FieldMatcher constant(final boolean matches) {
+        return matches ? FieldMatchers.alwaysTrue() : FieldMatchers.alwaysFalse();
+    }
+
+    /**
+     * Collects the entries of a field set, merging duplicate field names.
+     */
+    private static final class FieldSet {
+        private final Map<String, List<Node>> entries = new LinkedHashMap<>();
+
+        boolean collect(final FieldPredicate predicate, final int depth) {
+            if (predicate instanceof OrPredicate) {
+                final OrPredicate or = (OrPredicate) predicate;
+                if (!collect(or.first, depth)) {
+                    return false;
+                }
+
+                for (final FieldPredicate more : or.more) {
+                    if (!collect(more, depth)) {
+                        return false;
+                    }
+                }
+
+                return true;
+            } else if (predicate instanceof MatchIndexPredicate) {
+                final MatchIndexPredicate match = (MatchIndexPredicate) predicate;
+                if (match.index != depth || isPattern(match.token)) {
+                    return false;
+                }
+
+                addLeaf(match.token);
+                return true;
+            } else if (predicate instanceof MatchPrefixPredicate) {
+                final MatchPrefixPredicate match = (MatchPrefixPredicate) predicate;
+                if (match.index != depth) {
+                    return false;
+                }
+
+                addLeaf(match.prefix + WILDCARD);
+                return true;
+            } else if (predicate instanceof MatchAnyIndexPredicate) {
+                final MatchAnyIndexPredicate match = (MatchAnyIndexPredicate) predicate;
+                if (match.index != depth) {
+                    return false;
+                }
+
+                for (final String token : match.tokens) {
+                    if (isPattern(token)) {
+                        return false;
+                    }
+
+                    addLeaf(token);
+                }
+
+                return true;
+            } else if (predicate instanceof AndPredicate) {
+                final AndPredicate and = (AndPredicate) predicate;
+                final List<FieldPredicate> operands = new ArrayList<>(and.more.length + 1);
+                operands.add(and.first);
+                operands.addAll(Arrays.asList(and.more));
+                return collectQualified(operands, 0, depth);
+            }
+
+            return false;
+        }
+
+        /**
+         * Collect a qualified field from the supplied conjunction operands, starting at the supplied offset. The first
+         * operand must match the field at the supplied depth, and the others are the field set of the qualified field.
+         * Simplified predicates are flattened, i.e. {@code (foo(bar(baz)))} may be a conjunction of three operands,
+         * which is read as {@code AND(MATCH(0, foo), AND(MATCH(1, bar), MATCH(2, baz)))}.
+         */
+        private boolean collectQualified(final List<FieldPredicate> operands, final int offset, final int depth) {
+            final String name = operands.size() - offset < 2 ? null : entryName(operands.get(offset), depth);
+            if (name == null) {
+                return false;
+            }
+
+            final Node node;
+            if (operands.size() - offset == 2) {
+                node = expression(operands.get(offset + 1), depth + 1);
+            } else {
+                final FieldSet fieldSet = new FieldSet();
+                node = fieldSet.collectQualified(operands, offset + 1, depth + 1) ? fieldSet.build(false) : null;
+            }
+
+            if (node == null) {
+                return false;
+            }
+
+            addNode(name, node);
+            return true;
+        }
+
+        /**
+         * Return the entry name of an index or prefix match at the supplied depth, or null for other predicates.
+         */
+        @Nullable
+        private static String entryName(final FieldPredicate predicate, final int depth) {
+            if (predicate instanceof MatchIndexPredicate) {
+                final MatchIndexPredicate match = (MatchIndexPredicate) predicate;
+                return match.index == depth && !isPattern(match.token) ? match.token : null;
+            } else if (predicate instanceof MatchPrefixPredicate) {
+                final MatchPrefixPredicate match = (MatchPrefixPredicate) predicate;
+                return match.index == depth ? match.prefix + WILDCARD : null;
+            }
+
+            return null;
+        }
+
+        void addLeaf(final String name) {
+
+            // an empty list marks a leaf, which matches regardless of any sub nodes
+            final List<Node> nodes = entries.get(name);
+            if (nodes == null) {
+                entries.put(name, new ArrayList<Node>(0));
+            } else {
+                nodes.clear();
+            }
+        }
+
+        void addNode(final String name, final Node node) {
+            final List<Node> nodes = entries.get(name);
+            if (nodes == null) {
+                final List<Node> newNodes = new ArrayList<>(1);
+                newNodes.add(node);
+                entries.put(name, newNodes);
+            } else if (!nodes.isEmpty()) {
+                nodes.add(node);
+            }
+        }
+
+        Node build(final boolean negated) {
+            final Map<String, List<Node>> patterns = new LinkedHashMap<>();
+            for (final Map.Entry<String, List<Node>> entry : entries.entrySet()) {
+                if (isPattern(entry.getKey())) {
+                    final String name = entry.getKey();
+                    patterns.put(name.substring(0, name.length() - 1), entry.getValue());
+                }
+            }
+
+            final ImmutableMap.Builder<String, Child> children = ImmutableMap.builder();
+            final ImmutableMap.Builder<String, Child> fields = ImmutableMap.builder();
+            for (final Map.Entry<String, List<Node>> entry : entries.entrySet()) {
+                final Child child = child(entry.getValue());
+                children.put(entry.getKey(), child);
+                if (!isPattern(entry.getKey())) {
+                    final List<Node> merged = merge(entry.getKey(), entry.getValue(), patterns);
+                    fields.put(entry.getKey(), merged == entry.getValue() ? child : child(merged));
+                }
+            }
+
+            if (patterns.isEmpty()) {
+                return new Node(negated, children.build(), fields.build(), null);
+            }
+
+            final Map<String, Child> mergedPatterns = new LinkedHashMap<>();
+            for (final Map.Entry<String, List<Node>> entry : patterns.entrySet()) {
+                mergedPatterns.put(entry.getKey(), child(merge(entry.getKey(), entry.getValue(), patterns)));
+            }
+
+            return new Node(negated, children.build(), fields.build(), new PrefixIndex(mergedPatterns));
+        }
+
+        /**
+         * Return the union of the supplied entry with the entries of all patterns that match the supplied name, or the
+         * entry itself if no other pattern matches. An empty list is a leaf, which absorbs all other entries.
+         */
+        private static List<Node> merge(final String name, final List<Node> nodes,
+                final Map<String, List<Node>> patterns) {
+            if (nodes.isEmpty()) {
+                return nodes;
+            }
+
+            List<Node> result = nodes;
+            for (final Map.Entry<String, List<Node>> pattern : patterns.entrySet()) {
+                final List<Node> patternNodes = pattern.getValue();
+                if (patternNodes == nodes || !name.startsWith(pattern.getKey())) {
+                    continue;
+                } else if (patternNodes.isEmpty()) {
+                    return patternNodes;
+                }
+
+                if (result == nodes) {
+                    result = new ArrayList<>(nodes);
+                }
+
+                result.addAll(patternNodes);
+            }
+
+            return result;
+        }
+
+        /**
+         * A disjunction of non-negated field sets is the union of these field sets, so they are merged into a single
+         * node. Negated nodes can't be merged and are kept as alternatives.
+         */
+        private static Child child(final List<Node> nodes) {
+            if (nodes.isEmpty()) {
+                return Child.LEAF;
+            } else if (nodes.size() == 1) {
+                return new Child(new Node[] {nodes.get(0)});
+            }
+
+            final List<Node> alternatives = new ArrayList<>(nodes.size());
+            final FieldSet union = new FieldSet();
+            int unionSize = 0;
+            for (final Node node : nodes) {
+                if (node.negated) {
+                    alternatives.add(node);
+                } else {
+                    union.addAll(node);
+                    unionSize++;
+                }
+            }
+
+            if (unionSize > 0) {
+                alternatives.add(0, union.build(false));
+            }
+
+            return new Child(alternatives.toArray(new Node[alternatives.size()]));
+        }
+
+        private void addAll(final Node node) {
+            for (final Map.Entry<String, Child> entry : node.children.entrySet()) {
+                final Child child = entry.getValue();
+                if (child.isLeaf()) {
+                    addLeaf(entry.getKey());
+                } else {
+                    for (final Node grandChild : child.nodes) {
+                        addNode(entry.getKey(), grandChild);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * An immutable set of field names for fast membership tests. The names are kept in an open-addressed table with
+ * linear probing that is at most half full, together with their hash codes, so a lookup usually costs one hash
+ * computation (which is cached by {@link String}) and at most one {@link String#equals(Object)} call, regardless of the
+ * size of the set. Iteration follows insertion order.
+ *
+ * @since  17.10.2026
+ */
+final class TokenSet extends AbstractSet<String> {
+
+    private final String[] tokens;
+    private final String[] table;
+    private final int[] hashes;
+    private final int mask;
+
+    static TokenSet copyOf(final Collection<String> tokens) {
+        if (tokens instanceof TokenSet) {
+            return (TokenSet) tokens;
+        }
+
+        final LinkedHashSet<String> distinct = new LinkedHashSet<>(tokens);
+        return new TokenSet(distinct.toArray(new String[distinct.size()]));
+    }
+
+    private TokenSet(final String[] tokens) {
+        this.tokens = tokens;
+
+        int capacity = 2;
+        while (capacity < tokens.length * 2) {
+            capacity <<= 1;
+        }
+
+        this.table = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        for (final String token : tokens) {
+            final int hash = spread(token.hashCode());
+            int slot = hash & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot] = token;
+            hashes[slot] = hash;
+        }
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+
+        final int hash = spread(o.hashCode());
+        int slot = hash & mask;
+        String candidate;
+        while ((candidate = table[slot]) != null) {
+            if (hashes[slot] == hash && (candidate == o || candidate.equals(o))) {
+                return true;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return Iterators.forArray(tokens);
+    }
+
+    @Override
+    public int size() {
+        return tokens.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(tokens);
+    }
+
+    /**
+     * Mix the high bits of the hash code into the low bits that select the slot.
+     */
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+}
@@ -0,0 +1,112 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static org.hamcrest.CoreMatchers.containsString;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpression;
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+
+import org.junit.Test;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * @since  17.10.2026
+ */
+public class ExpressionLimitsTest {
+
+    private static final ExpressionLimits LIMITS = ExpressionLimits.defaultLimits().withMaxLength(40).withMaxDepth(3)
+                                                                   .withMaxFields(5);
+
+    @Test
+    public void expressionsWithinTheLimitsAreParsed() {
+        for (final ParserEngine engine : ParserEngine.values()) {
+            assertThat(parseFieldsExpressionOrFail("(a,e,b(c(d)))", engine, LIMITS).toString(), is("(a,e,b(c(d)))"));
+        }
+    }
+
+    @Test
+    public void lengthIsLimited() {
+        assertRejected("( " + Strings.repeat(" ", 40) + "a)", "maximum length of 40");
+    }
+
+    @Test
+    public void depthIsLimited() {
+        assertRejected("(a(b(c(d))))", "maximum depth of 3 at offset 6");
+    }
+
+    @Test
+    public void fieldCountIsLimited() {
+        assertRejected("(a,b,c(d,e,f))", "maximum field count of 5 at offset 10");
+    }
+
+    @Test
+    public void limitsAreCheckedBeforeParsing() {
+
+        // unbalanced and overly deep, rejected for its depth before the parser sees it
+        assertRejected(Strings.repeat("(a", 4), "maximum depth");
+    }
+
+    @Test
+    public void defaultLimitsProtectTheParser() {
+        final String deep = Strings.repeat("(a", 10000) + Strings.repeat(")", 10000);
+        for (final ParserEngine engine : ParserEngine.values()) {
+            assertThat(parseFieldsExpression(deep, engine), is(alwaysFalse()));
+            try {
+                parseFieldsExpressionOrFail(deep, engine);
+                fail("Expression exceeding the default limits accepted");
+            } catch (ExpressionComplexityException e) {
+                assertThat(e.getMessage(), containsString("maximum length of " + ExpressionLimits.DEFAULT_MAX_LENGTH));
+            }
+        }
+
+        final String wide = "(" + Strings.repeat("a,", ExpressionLimits.DEFAULT_MAX_FIELDS) + "a)";
+        assertThat(parseFieldsExpression(wide), is(alwaysFalse()));
+        assertThat(parseFieldsExpression(wide, ParserEngine.ANTLR, ExpressionLimits.noLimits()).toString(),
+            is("(a)"));
+    }
+
+    @Test
+    public void cachesRejectComplexExpressionsWithoutCachingThem() {
+        final FieldPredicateCache cache = FieldPredicateCaches.guavaCache(CacheBuilder.newBuilder(),
+                ParserEngine.RECURSIVE_DESCENT, LIMITS);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parseFieldsExpressionOrFail("(a(b(c(d))))");
+                fail("Expression exceeding the limits accepted");
+            } catch (ExpressionComplexityException e) {
+                assertThat(e.getMessage(), containsString("maximum depth"));
+            }
+        }
+
+        assertThat(cache.stats().requestCount(), is(0L));
+
+        // the loader must not apply the default limits, which may be stricter than those of the cache
+        final FieldPredicateCache lenient = FieldPredicateCaches.guavaCache(CacheBuilder.newBuilder(),
+                ParserEngine.RECURSIVE_DESCENT, ExpressionLimits.defaultLimits().withMaxDepth(100));
+        final String deep = Strings.repeat("(a", 40) + Strings.repeat(")", 40);
+        assertThat(lenient.parseFieldsExpressionOrFail(deep).toString(), is(deep));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limitsMustBePositive() {
+        ExpressionLimits.noLimits().withMaxDepth(0);
+    }
+
+    private static void assertRejected(final String expression, final String message) {
+        for (final ParserEngine engine : ParserEngine.values()) {
+            try {
+                parseFieldsExpressionOrFail(expression, engine, LIMITS);
+                fail("Expression exceeding the limits accepted: " + expression);
+            } catch (ExpressionComplexityException e) {
+                assertThat(e.getMessage(), containsString(message));
+            }
+        }
+    }
+}
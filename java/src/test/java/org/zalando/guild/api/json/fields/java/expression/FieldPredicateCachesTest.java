@@ -0,0 +1,97 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.java.expression.FieldPredicateCaches.boundedCache;
+import static org.zalando.guild.api.json.fields.java.expression.FieldPredicateCaches.noCache;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * @since  17.10.2026
+ */
+public class FieldPredicateCachesTest {
+
+    @Test
+    public void hitsAndMisses() {
+        final FieldPredicateCache cache = boundedCache(10);
+        final FieldPredicate first = cache.parseFieldsExpressionOrFail("(foo,bar)");
+        final FieldPredicate second = cache.parseFieldsExpressionOrFail("(foo,bar)");
+        cache.parseFieldsExpressionOrFail("(baz)");
+
+        assertThat(second, is(sameInstance(first)));
+
+        final CacheStats stats = cache.stats();
+        assertThat(stats.hitCount(), is(1L));
+        assertThat(stats.missCount(), is(2L));
+        assertThat(stats.evictionCount(), is(0L));
+    }
+
+    @Test
+    public void eviction() {
+        final FieldPredicateCache cache = boundedCache(1);
+        cache.parseFieldsExpressionOrFail("(foo)");
+        cache.parseFieldsExpressionOrFail("(bar)");
+        cache.parseFieldsExpressionOrFail("(foo)");
+
+        final CacheStats stats = cache.stats();
+        assertThat(stats.hitCount(), is(0L));
+        assertThat(stats.missCount(), is(3L));
+        assertThat(stats.evictionCount(), is(2L));
+    }
+
+    @Test
+    public void invalidExpressionsAreCached() {
+        final FieldPredicateCache cache = boundedCache(10);
+        final IllegalArgumentException first = parseAndExpectFailure(cache, "foo, bar");
+        final IllegalArgumentException second = parseAndExpectFailure(cache, "foo, bar");
+
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.getCause(), is(sameInstance(first.getCause())));
+        assertThat(second.getMessage(), is(first.getMessage()));
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(cache.stats().missCount(), is(1L));
+    }
+
+    @Test
+    public void invalidExpressionsDontEvictValidOnes() {
+        final FieldPredicateCache cache = boundedCache(1);
+        final FieldPredicate predicate = cache.parseFieldsExpressionOrFail("(foo)");
+        for (int i = 0; i < FieldPredicateCaches.MAX_CACHED_FAILURES * 2; i++) {
+            parseAndExpectFailure(cache, "foo" + i);
+        }
+
+        assertThat(cache.parseFieldsExpressionOrFail("(foo)"), is(sameInstance(predicate)));
+    }
+
+    @Test
+    public void noCacheParsesEveryTime() {
+        final FieldPredicateCache cache = noCache();
+        cache.parseFieldsExpressionOrFail("(foo)");
+        cache.parseFieldsExpressionOrFail("(foo)");
+
+        assertThat(cache.stats().hitCount(), is(0L));
+        assertThat(cache.stats().missCount(), is(2L));
+    }
+
+    private static IllegalArgumentException parseAndExpectFailure(final FieldPredicateCache cache,
+            final String expression) {
+        try {
+            cache.parseFieldsExpressionOrFail(expression);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+
+        fail("Expected failure for " + expression);
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package org.zalando.guild.api.json.fields.java.expression;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.grammar.SyntaxCases;
+import org.zalando.guild.api.json.fields.java.model.FieldPredicate;
+
+/**
+ * Runs every expression of the grammar's {@link SyntaxCases}, which JsonFieldsGrammarSyntaxTest checks against the
+ * grammar, against all parser engines, and verifies that they agree on validity and on the resulting predicates.
+ *
+ * @since  17.10.2026
+ */
+public class ParserEngineConformanceTest {
+
+    private static final List<String> NAMES = asList("foo", "bar", "baz", "foobar", "-", "phleem");
+
+    @Test
+    public void validExpressions() {
+        for (final String expression : SyntaxCases.VALID_EXPRESSIONS) {
+            final FieldPredicate reference = parseFieldsExpressionOrFail(expression, ParserEngine.ANTLR);
+            for (final ParserEngine engine : ParserEngine.values()) {
+                final FieldPredicate predicate = parseOrFail(expression, engine);
+                assertEquals(engine + ": " + expression, reference.toString(), predicate.toString());
+                assertEquivalent(engine + ": " + expression, reference, predicate);
+            }
+        }
+    }
+
+    @Test
+    public void invalidExpressions() {
+        for (final String expression : SyntaxCases.INVALID_EXPRESSIONS) {
+            for (final ParserEngine engine : ParserEngine.values()) {
+                try {
+                    parseFieldsExpressionOrFail(expression, engine);
+                    fail(engine + " accepted invalid expression '" + expression + "'");
+                } catch (IllegalArgumentException expected) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    private static FieldPredicate parseOrFail(final String expression, final ParserEngine engine) {
+        try {
+            return parseFieldsExpressionOrFail(expression, engine);
+        } catch (IllegalArgumentException e) {
+            throw new AssertionError(engine + " rejected valid expression '" + expression + "': " + e);
+        }
+    }
+
+    private static void assertEquivalent(final String message, final FieldPredicate reference,
+            final FieldPredicate predicate) {
+        List<List<String>> hierarchies = new ArrayList<>();
+        hierarchies.add(new ArrayList<String>());
+        for (int depth = 1; depth <= 3; depth++) {
+            final List<List<String>> deeper = new ArrayList<>();
+            for (final List<String> prefix : hierarchies) {
+                for (final String name : NAMES) {
+                    final List<String> fields = new ArrayList<>(prefix);
+                    fields.add(name);
+                    deeper.add(fields);
+                    assertEquals(message + " for " + fields, reference.apply(fields), predicate.apply(fields));
+                }
+            }
+
+            hierarchies = deeper;
+        }
+    }
+}
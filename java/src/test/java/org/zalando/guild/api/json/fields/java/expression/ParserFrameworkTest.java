@@ -3,10 +3,13 @@ package org.zalando.guild.api.json.fields.java.expression;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
+import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 
 import static org.junit.Assert.assertThat;
 
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +46,35 @@ public class ParserFrameworkTest {
         assertThat("(foo,baz)", matchesFields("baz", "phleem"));
     }
 
+    @Test
+    public void wideFieldGroup() {
+        final String expression = "(f1,f2,f3,f4,foo(bar),f5,f6,f7,f8,f1)";
+        assertThat(expression, matchesFields("f1"));
+        assertThat(expression, matchesFields("f8", "phleem"));
+        assertThat(expression, matchesFields("foo", "bar"));
+        assertThat(expression, not(matchesFields("foo", "baz")));
+        assertThat(expression, not(matchesFields("f9")));
+        assertThat("!" + expression, not(matchesFields("f5")));
+        assertThat("!" + expression, matchesFields("f9"));
+    }
+
+    @Test
+    public void fieldPatterns() {
+        assertThat("(price_*)", matchesFields("price_eur"));
+        assertThat("(price_*)", matchesFields("price_"));
+        assertThat("(price_*)", not(matchesFields("price")));
+        assertThat("(*)", matchesFields("anything", "at", "all"));
+        assertThat("(id,attr_*(value),attr_size)", matchesFields("attr_size", "unit"));
+        assertThat("(id,attr_*(value),attr_size)", matchesFields("attr_color", "value"));
+        assertThat("(id,attr_*(value),attr_size)", not(matchesFields("attr_color", "name")));
+        assertThat("(id,attr_*(value),attr_size)", not(matchesFields("name")));
+        assertThat("!(internal_*)", matchesFields("id"));
+        assertThat("!(internal_*)", not(matchesFields("internal_id")));
+        assertThat("(a,b,c,d,e,f,g,h,price_*)", matchesFields("price_eur"));
+        assertThat("(a,b,c,d,e,f,g,h,price_*)", not(matchesFields("i")));
+        assertThat(parseFieldsExpressionOrFail("(foo *, * (bar))").toString(), is("(foo*,*(bar))"));
+    }
+
     @Test
     public void negation() {
         assertThat("!(foo)", matchesFields("bar"));
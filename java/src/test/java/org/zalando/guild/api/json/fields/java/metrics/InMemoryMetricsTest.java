@@ -0,0 +1,151 @@
+package org.zalando.guild.api.json.fields.java.metrics;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpression;
+import static org.zalando.guild.api.json.fields.java.metrics.InMemoryMetrics.inMemoryMetrics;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.zalando.guild.api.json.fields.java.expression.FieldPredicateCache;
+import org.zalando.guild.api.json.fields.java.expression.FieldPredicateCaches;
+
+/**
+ * @since  17.10.2026
+ */
+public class InMemoryMetricsTest {
+
+    private final InMemoryMetrics metrics = inMemoryMetrics();
+
+    @After
+    public void disableMetrics() {
+        Metrics.install(Metrics.noOp());
+    }
+
+    @Test
+    public void metricsAreDisabledByDefault() {
+        assertThat(Metrics.isEnabled(), is(false));
+        Metrics.install(metrics);
+        assertThat(Metrics.isEnabled(), is(true));
+        assertThat(Metrics.get() == metrics, is(true));
+    }
+
+    @Test
+    public void parsesAreCounted() {
+        Metrics.install(metrics);
+        parseFieldsExpression("(foo,bar(baz))");
+        parseFieldsExpression("(foo");
+        parseFieldsExpression("!(foo)");
+
+        assertThat(metrics.getParseCount(), is(2L));
+        assertThat(metrics.getParseFailureCount(), is(1L));
+
+        long histogramTotal = 0;
+        for (final long count : metrics.getParseLatencyHistogram()) {
+            histogramTotal += count;
+        }
+
+        assertThat(histogramTotal, is(3L));
+    }
+
+    @Test
+    public void latenciesAreBucketedByPowersOfTwo() {
+        metrics.expressionParsed(0);
+        metrics.expressionParsed(TimeUnit.MICROSECONDS.toNanos(1));
+        metrics.expressionParsed(TimeUnit.MICROSECONDS.toNanos(3));
+        metrics.expressionRejected(TimeUnit.MICROSECONDS.toNanos(1000));
+        metrics.expressionParsed(Long.MAX_VALUE);
+
+        final long[] histogram = metrics.getParseLatencyHistogram();
+        assertThat(histogram[0], is(1L));
+        assertThat(histogram[1], is(1L));
+        assertThat(histogram[2], is(1L));
+        assertThat(histogram[10], is(1L));
+        assertThat(histogram[InMemoryMetrics.HISTOGRAM_BUCKETS - 1], is(1L));
+    }
+
+    @Test
+    public void cacheLookupsAreCounted() {
+        Metrics.install(metrics);
+        assertThat(metrics.getCacheHitRatio(), is(1.0));
+
+        final FieldPredicateCache cache = FieldPredicateCaches.boundedCache(10);
+        cache.parseFieldsExpressionOrFail("(foo)");
+        cache.parseFieldsExpressionOrFail("(foo)");
+        cache.parseFieldsExpressionOrFail("(foo)");
+        cache.parseFieldsExpressionOrFail("(bar)");
+
+        assertThat(metrics.getCacheHitCount(), is(2L));
+        assertThat(metrics.getCacheMissCount(), is(2L));
+        assertThat(metrics.getCacheHitRatio(), is(0.5));
+
+        // cache misses are parsed, hits are not
+        assertThat(metrics.getParseCount(), is(2L));
+
+        FieldPredicateCaches.noCache().parseFieldsExpressionOrFail("(foo)");
+        assertThat(metrics.getCacheMissCount(), is(3L));
+    }
+
+    @Test
+    public void filteredPropertiesAreCounted() {
+        metrics.propertiesFiltered(1, 3, 2);
+        metrics.propertiesFiltered(3, 1, 0);
+        metrics.propertiesFiltered(2, 2, 2);
+
+        assertThat(metrics.getPropertiesEvaluated(), is(6L));
+        assertThat(metrics.getPropertiesIncluded(), is(4L));
+        assertThat(metrics.getPropertiesExcluded(), is(2L));
+        assertThat(metrics.getMaxDepth(), is(3));
+
+        metrics.reset();
+        assertThat(metrics.getPropertiesEvaluated(), is(0L));
+        assertThat(metrics.getMaxDepth(), is(0));
+    }
+
+    @Test
+    public void concurrentUpdatesAreCounted() throws Exception {
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        metrics.propertiesFiltered(1, 2, 1);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(metrics.getPropertiesEvaluated(), is(160000L));
+        assertThat(metrics.getPropertiesIncluded(), is(80000L));
+    }
+
+    @Test
+    public void metricsAreExposedThroughJmx() throws Exception {
+        metrics.propertiesFiltered(1, 3, 2);
+
+        final ObjectName name = metrics.registerMBean();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertThat(server.getAttribute(name, "PropertiesExcluded"), is((Object) 1L));
+            assertThat(server.getAttribute(name, "MaxDepth"), is((Object) 1));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
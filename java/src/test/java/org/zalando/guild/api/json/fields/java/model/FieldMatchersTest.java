@@ -0,0 +1,148 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.model.FieldMatchers.matcher;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.compile;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+import static org.zalando.guild.api.json.fields.java.model.FieldTrieTest.allFieldHierarchies;
+import static org.zalando.guild.api.json.fields.java.model.FieldTrieTest.descend;
+import static org.zalando.guild.api.json.fields.java.model.FieldTrieTest.descendBySymbols;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @since  17.10.2026
+ */
+public class FieldMatchersTest {
+
+    @Test
+    public void constants() {
+        assertThat(matcher(alwaysTrue()), is(sameInstance(FieldMatchers.alwaysTrue())));
+        assertThat(matcher(alwaysFalse()), is(sameInstance(FieldMatchers.alwaysFalse())));
+        assertThat(FieldMatchers.alwaysTrue().descend("foo").descend("bar").matches(), is(true));
+        assertThat(FieldMatchers.alwaysFalse().descend("foo").descend("bar").matches(), is(false));
+    }
+
+    @Test
+    public void uncompiledPredicates() {
+        assertEquivalentMatcher(matchIndex(1, "bar"));
+        assertEquivalentMatcher(and(not(matchIndex(1, "bar")), not(matchIndex(0, "foo"))));
+        assertEquivalentMatcher(or(not(matchIndex(0, "foo")), matchIndex(2, "baz")));
+    }
+
+    @Test
+    public void compiledPredicates() {
+
+        // (foo!(bar),foo!(baz),phleem(foo))
+        assertEquivalentMatcher(compile(
+                or(and(matchIndex(0, "foo"), not(matchIndex(1, "bar"))),
+                    and(matchIndex(0, "foo"), not(matchIndex(1, "baz"))),
+                    and(matchIndex(0, "phleem"), matchIndex(1, "foo")))));
+    }
+
+    @Test
+    public void compiledMatchersDontAllocate() {
+        final FieldMatcher root = matcher(compile(or(and(matchIndex(0, "foo"), matchIndex(1, "bar")),
+                        matchIndex(0, "baz"))));
+
+        assertThat(root.descend("foo"), is(sameInstance(root.descend("foo"))));
+        assertThat(root.descend("foo").descend("bar"), is(sameInstance(FieldMatchers.alwaysTrue())));
+        assertThat(root.descend("phleem"), is(sameInstance(FieldMatchers.alwaysFalse())));
+
+        final int foo = FieldSymbols.symbol("foo");
+        assertThat(root.descend(foo), is(sameInstance(root.descend("foo"))));
+        assertThat(root.descend(foo).descend(FieldSymbols.symbol("bar")),
+            is(sameInstance(FieldMatchers.alwaysTrue())));
+        assertThat(root.descend(FieldSymbols.symbol("phleem")), is(sameInstance(FieldMatchers.alwaysFalse())));
+    }
+
+    @Test
+    public void compilingDoesntAddSymbols() {
+        final FieldMatcher root = matcher(compile(matchIndex(0, "compilingDoesntAddSymbols")));
+        assertThat(FieldSymbols.lookup("compilingDoesntAddSymbols"), is(FieldSymbols.NO_SYMBOL));
+
+        final int symbol = FieldSymbols.symbol("compilingDoesntAddSymbols");
+        assertThat(root.descend(symbol), is(sameInstance(FieldMatchers.alwaysTrue())));
+    }
+
+    @Test
+    public void symbolsAssignedAfterCompilingAreIndexed() {
+        final FieldMatcher root = matcher(compile(matchIndex(0, "symbolsAssignedAfterCompiling")));
+        final FieldTrie.Node node = ((FieldTrie.NodeMatcher) root).node;
+        final int symbol = FieldSymbols.symbol("symbolsAssignedAfterCompiling");
+        final int other = FieldSymbols.symbol("symbolsAssignedAfterCompiling-other");
+        assertThat(node.symbolIndex.get(symbol), is(nullValue()));
+
+        assertThat(root.descend(symbol), is(sameInstance(FieldMatchers.alwaysTrue())));
+        final FieldTrie.SymbolIndex symbolIndex = node.symbolIndex;
+        assertThat(symbolIndex.get(symbol), is(notNullValue()));
+
+        // symbols covered by the index are decided without falling back to the field name
+        assertThat(root.descend(other), is(sameInstance(FieldMatchers.alwaysFalse())));
+        assertThat(node.symbolIndex, is(sameInstance(symbolIndex)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownSymbolsAreRejected() {
+        matcher(compile(matchIndex(0, "foo"))).descend(FieldSymbols.NO_SYMBOL);
+    }
+
+    @Test
+    public void uncompiledMatchersMemoizeDecisions() {
+        final AtomicInteger applications = new AtomicInteger();
+        final FieldPredicate predicate = new FieldPredicate() {
+            @Override
+            public boolean apply(final List<String> fields) {
+                applications.incrementAndGet();
+                return fields.size() < 2;
+            }
+        };
+        final FieldMatcher root = matcher(predicate);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(root.descend("foo").matches(), is(true));
+            assertThat(root.descend("foo").descend("bar").matches(), is(false));
+        }
+
+        assertThat(root.descend("foo"), is(sameInstance(root.descend("foo"))));
+        assertThat(applications.get(), is(2));
+    }
+
+    @Test
+    public void uncompiledMatchersCacheBoundedNumberOfPaths() {
+        final FieldMatcher root = matcher(matchIndex(0, "foo"));
+        for (int i = 0; i < FieldMatchers.MAX_CACHED_PATHS; i++) {
+            root.descend("field" + i);
+        }
+
+        final FieldMatcher uncached = root.descend("foo");
+        assertNotSame(uncached, root.descend("foo"));
+        assertThat(uncached.matches(), is(true));
+        assertThat(root.descend("field0"), is(sameInstance(root.descend("field0"))));
+    }
+
+    private static void assertEquivalentMatcher(final FieldPredicate predicate) {
+        final FieldMatcher root = matcher(predicate);
+        for (final List<String> fields : allFieldHierarchies()) {
+            assertEquals(predicate + " for " + fields, predicate.apply(fields), descend(root, fields).matches());
+            assertEquals(predicate + " by symbol for " + fields, predicate.apply(fields),
+                descendBySymbols(root, fields).matches());
+        }
+    }
+}
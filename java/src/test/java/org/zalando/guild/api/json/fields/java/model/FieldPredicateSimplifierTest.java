@@ -0,0 +1,194 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import static org.zalando.guild.api.json.fields.java.expression.ParserFramework.parseFieldsExpressionOrFail;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.compile;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchPrefix;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.simplify;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Verifies that simplified predicates are minimal and have exactly the same semantics as the original predicates.
+ *
+ * @since  17.10.2026
+ */
+public class FieldPredicateSimplifierTest {
+
+    private static final String[] NAMES = {"foo", "bar", "baz", "phleem"};
+
+    private static final String[] PREFIXES = {"", "f", "ba", "bar", "phl"};
+
+    private static final List<List<String>> FIELD_HIERARCHIES = FieldTrieTest.allFieldHierarchies();
+
+    @Test
+    public void doubleNegation() {
+        final FieldPredicate foo = matchIndex(0, "foo");
+
+        assertThat(simplify(not(not(foo))), is(sameInstance(foo)));
+        assertSimplified(not(not(not(foo))), "NOT ( match 'foo' at index 0 )");
+    }
+
+    @Test
+    public void constants() {
+        final FieldPredicate foo = matchIndex(0, "foo");
+
+        assertThat(simplify(not(alwaysTrue())), is(sameInstance(alwaysFalse())));
+        assertThat(simplify(and(foo, alwaysTrue())), is(sameInstance(foo)));
+        assertThat(simplify(and(foo, not(alwaysTrue()))), is(sameInstance(alwaysFalse())));
+        assertThat(simplify(or(foo, alwaysFalse())), is(sameInstance(foo)));
+        assertThat(simplify(or(foo, not(alwaysFalse()))), is(sameInstance(alwaysTrue())));
+        assertThat(simplify(or(alwaysFalse(), alwaysFalse())), is(sameInstance(alwaysFalse())));
+    }
+
+    @Test
+    public void flattening() {
+        assertSimplified(and(matchIndex(0, "foo"), and(matchIndex(1, "bar"), matchIndex(2, "baz"))),
+            "( match 'foo' at index 0 AND match 'bar' at index 1 AND match 'baz' at index 2 )");
+        assertSimplified(or(matchIndex(0, "foo"), or(matchIndex(1, "bar"), or(matchIndex(2, "baz")))),
+            "( match 'foo' at index 0 OR match 'bar' at index 1 OR match 'baz' at index 2 )");
+        assertThat(simplify(and(matchIndex(0, "foo"))).toString(), is("match 'foo' at index 0"));
+    }
+
+    @Test
+    public void duplicatesAndAbsorbedOperands() {
+
+        // (foo,foo,bar(baz),bar(baz))
+        assertSimplified(or(matchIndex(0, "foo"), matchIndex(0, "foo"),
+                and(matchIndex(0, "bar"), matchIndex(1, "baz")), and(matchIndex(0, "bar"), matchIndex(1, "baz"))),
+            "( match 'foo' at index 0 OR ( match 'bar' at index 0 AND match 'baz' at index 1 ) )");
+
+        // (foo,foo(bar))
+        assertSimplified(or(matchIndex(0, "foo"), and(matchIndex(0, "foo"), matchIndex(1, "bar"))),
+            "match 'foo' at index 0");
+
+        // (ba*,bar(foo),b*(phleem),ba*)
+        assertSimplified(or(matchPrefix(0, "ba"), and(matchIndex(0, "bar"), matchIndex(1, "foo")),
+                and(matchPrefix(0, "b"), matchIndex(1, "phleem")), matchPrefix(0, "ba")),
+            "( match 'ba*' at index 0 OR ( match 'b*' at index 0 AND match 'phleem' at index 1 ) )");
+
+        // foo AND (foo OR bar at index 1)
+        assertSimplified(and(matchIndex(0, "foo"), or(matchIndex(0, "foo"), matchIndex(1, "bar"))),
+            "match 'foo' at index 0");
+    }
+
+    @Test
+    public void siblingMatchesAreMerged() {
+        assertSimplified(or(matchIndex(0, "foo"), matchIndex(0, "bar"), matchIndex(1, "baz"), matchIndex(0, "foo")),
+            "( match any of [foo, bar] at index 0 OR match 'baz' at index 1 )");
+
+        // (foo,bar,foo(baz))
+        assertSimplified(or(matchIndex(0, "foo"), matchIndex(0, "bar"),
+                and(matchIndex(0, "foo"), matchIndex(1, "baz"))), "match any of [foo, bar] at index 0");
+    }
+
+    @Test
+    public void minimalPredicatesAreReturnedAsIs() {
+        final FieldPredicate predicate = or(not(matchIndex(0, "foo")), and(matchIndex(0, "bar"), matchIndex(1, "baz")));
+
+        assertThat(simplify(predicate), is(sameInstance(predicate)));
+    }
+
+    @Test
+    public void simplifiedExpressionsAreCompiled() {
+        final FieldPredicate predicate = or(and(matchIndex(0, "foo"), and(matchIndex(1, "bar"), matchIndex(2, "baz"))),
+                matchIndex(0, "bar"), matchIndex(0, "phleem"), not(not(matchIndex(0, "baz"))));
+        final FieldPredicate compiled = compile(predicate);
+
+        assertThat(compiled, is(instanceOf(FieldTrie.class)));
+        assertThat(compiled.toString(), is("(foo(bar(baz)),bar,phleem,baz)"));
+        assertEquivalent(predicate, compiled);
+    }
+
+    @Test
+    public void parsedExpressionsAreStillCompiled() {
+        for (final String expression : new String[] {
+                    "(foo,foo,bar)", "(foo!(bar))", "(foo(bar(baz)),foo(phleem))", "!(foo!(bar),baz)", "(foo,foo(bar))"
+                }) {
+            assertThat(expression, parseFieldsExpressionOrFail(expression), is(instanceOf(FieldTrie.class)));
+        }
+    }
+
+    @Test
+    public void randomPredicatesAreEquivalent() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            final FieldPredicate predicate = randomPredicate(random, 0, 4);
+            assertEquivalent(predicate, simplify(predicate));
+            assertEquivalent(predicate, compile(predicate));
+        }
+    }
+
+    private static FieldPredicate randomPredicate(final Random random, final int depth, final int budget) {
+        final int choice = budget == 0 ? random.nextInt(3) : random.nextInt(9);
+        switch (choice) {
+
+            case 0 :
+                return random.nextInt(10) == 0 ? alwaysTrue() : field(random, random.nextInt(3));
+
+            case 1 :
+                return random.nextInt(10) == 0 ? alwaysFalse() : field(random, depth);
+
+            case 2 :
+                return field(random, depth);
+
+            case 3 :
+            case 4 :
+                return not(randomPredicate(random, depth, budget - 1));
+
+            case 5 :
+                return and(field(random, depth), randomPredicate(random, depth + 1, budget - 1));
+
+            case 6 :
+                return and(randomPredicate(random, depth, budget - 1), randomPredicate(random, depth, budget - 1),
+                        randomPredicate(random, depth, budget - 1));
+
+            default :
+                return or(randomPredicate(random, depth, budget - 1), randomPredicate(random, depth, budget - 1),
+                        randomPredicate(random, depth, budget - 1));
+        }
+    }
+
+    /**
+     * Return the match of a field name or, in one of three cases, of a field pattern.
+     */
+    private static FieldPredicate field(final Random random, final int index) {
+        return random.nextInt(3) == 0 ? matchPrefix(index, PREFIXES[random.nextInt(PREFIXES.length)])
+                                      : matchIndex(index, name(random));
+    }
+
+    private static String name(final Random random) {
+        return NAMES[random.nextInt(NAMES.length)];
+    }
+
+    private static void assertSimplified(final FieldPredicate predicate, final String expected) {
+        final FieldPredicate simplified = simplify(predicate);
+        assertThat(simplified.toString(), is(expected));
+        assertEquivalent(predicate, simplified);
+    }
+
+    private static void assertEquivalent(final FieldPredicate expected, final FieldPredicate actual) {
+        for (final List<String> fields : FIELD_HIERARCHIES) {
+
+            // the message is only built on failure, it dominates the runtime otherwise
+            if (expected.apply(fields) != actual.apply(fields)) {
+                fail(expected + " vs. " + actual + " for " + fields);
+            }
+        }
+    }
+}
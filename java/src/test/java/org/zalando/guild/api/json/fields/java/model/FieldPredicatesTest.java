@@ -2,16 +2,22 @@ package org.zalando.guild.api.json.fields.java.model;
 
 import static java.util.Arrays.asList;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
 import static org.junit.Assert.assertThat;
 
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysFalse;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndexAnyOf;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchPrefix;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
 import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.hamcrest.Description;
@@ -22,6 +28,8 @@ import org.hamcrest.core.IsNot;
 
 import org.junit.Test;
 
+import org.zalando.guild.api.json.fields.java.model.FieldPredicates.MatchIndexPredicate;
+
 /**
  * @author  Sean Patrick Floyd (sean.floyd@zalando.de)
  * @since   02.09.2015
@@ -67,6 +75,36 @@ public class FieldPredicatesTest {
 
     }
 
+    @Test
+    public void indexBasedSetMatch() throws Exception {
+        final FieldPredicate predicate = matchIndexAnyOf(1, new LinkedHashSet<>(asList("foo", "bar", "baz")));
+
+        assertThat(predicate, matchesTokens("phleem"));
+        assertThat(predicate, matchesTokens("phleem", "foo"));
+        assertThat(predicate, matchesTokens("phleem", "baz", "phleem"));
+        assertThat(predicate, doesntMatchTokens("phleem", "phleem"));
+        assertThat(predicate, doesntMatchTokens("foo", "phleem", "bar"));
+        assertThat(predicate.toString(), is("match any of [foo, bar, baz] at index 1"));
+
+        assertThat(matchIndexAnyOf(0, new LinkedHashSet<>(asList("foo"))), is(instanceOf(MatchIndexPredicate.class)));
+    }
+
+    @Test
+    public void prefixBasedMatch() throws Exception {
+        assertThat(matchPrefix(1, "ba"), matchesTokens("foo"));
+        assertThat(matchPrefix(1, "ba"), matchesTokens("foo", "bar"));
+        assertThat(matchPrefix(1, "ba"), matchesTokens("foo", "ba", "phleem"));
+        assertThat(matchPrefix(1, "ba"), doesntMatchTokens("foo", "b"));
+        assertThat(matchPrefix(1, "ba"), doesntMatchTokens("foo", "foobar"));
+        assertThat(matchPrefix(0, ""), matchesTokens("phleem"));
+        assertThat(matchPrefix(1, "ba").toString(), is("match 'ba*' at index 1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexBasedSetMatchRequiresTokens() throws Exception {
+        matchIndexAnyOf(0, new LinkedHashSet<String>());
+    }
+
     @Test
     public void conjunction() throws Exception {
 
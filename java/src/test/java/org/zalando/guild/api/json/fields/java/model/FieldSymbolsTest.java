@@ -0,0 +1,43 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @since  17.10.2026
+ */
+public class FieldSymbolsTest {
+
+    @Test
+    public void symbolsAreStable() {
+        final int foo = FieldSymbols.symbol("symbolsAreStable-foo");
+        final int bar = FieldSymbols.symbol("symbolsAreStable-bar");
+
+        assertThat(foo >= 0, is(true));
+        assertThat(bar, is(not(foo)));
+        assertThat(FieldSymbols.symbol(new String("symbolsAreStable-foo")), is(foo));
+        assertThat(FieldSymbols.lookup("symbolsAreStable-bar"), is(bar));
+        assertThat(FieldSymbols.name(foo), is("symbolsAreStable-foo"));
+        assertThat(FieldSymbols.name(bar), is("symbolsAreStable-bar"));
+    }
+
+    @Test
+    public void lookupDoesntAddNames() {
+        assertThat(FieldSymbols.lookup("lookupDoesntAddNames"), is(FieldSymbols.NO_SYMBOL));
+        assertThat(FieldSymbols.lookup("lookupDoesntAddNames"), is(FieldSymbols.NO_SYMBOL));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSymbolsAreUnknown() {
+        FieldSymbols.name(FieldSymbols.NO_SYMBOL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unassignedSymbolsAreUnknown() {
+        FieldSymbols.name(FieldSymbols.MAX_SYMBOLS);
+    }
+}
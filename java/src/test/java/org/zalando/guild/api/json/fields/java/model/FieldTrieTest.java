@@ -0,0 +1,191 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.alwaysTrue;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.and;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.compile;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchIndex;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.matchPrefix;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.not;
+import static org.zalando.guild.api.json.fields.java.model.FieldPredicates.or;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Verifies that compiled predicates have exactly the same semantics as the predicates they were compiled from.
+ *
+ * @since  17.10.2026
+ */
+public class FieldTrieTest {
+
+    private static final List<String> NAMES = Arrays.asList("foo", "bar", "baz", "phleem");
+    private static final int MAX_DEPTH = 4;
+
+    @Test
+    public void singleField() {
+        assertEquivalentWhenCompiled(matchIndex(0, "foo"));
+    }
+
+    @Test
+    public void fieldSet() {
+        assertEquivalentWhenCompiled(or(matchIndex(0, "foo"), matchIndex(0, "bar"), matchIndex(0, "baz")));
+        assertEquivalentWhenCompiled(not(or(matchIndex(0, "foo"), matchIndex(0, "bar"))));
+    }
+
+    @Test
+    public void qualifiedFields() {
+
+        // (foo(bar,baz),phleem)
+        assertEquivalentWhenCompiled(or(and(matchIndex(0, "foo"), or(matchIndex(1, "bar"), matchIndex(1, "baz"))),
+                matchIndex(0, "phleem")));
+
+        // (foo!(bar(baz)))
+        assertEquivalentWhenCompiled(and(matchIndex(0, "foo"), not(and(matchIndex(1, "bar"), matchIndex(2, "baz")))));
+
+        // !(foo!(bar!(baz)))
+        assertEquivalentWhenCompiled(not(
+                and(matchIndex(0, "foo"), not(and(matchIndex(1, "bar"), not(matchIndex(2, "baz")))))));
+    }
+
+    @Test
+    public void duplicateFields() {
+
+        // (foo,foo(bar))
+        assertEquivalentWhenCompiled(or(matchIndex(0, "foo"), and(matchIndex(0, "foo"), matchIndex(1, "bar"))));
+
+        // (foo(bar),foo(baz(phleem)))
+        assertEquivalentWhenCompiled(or(and(matchIndex(0, "foo"), matchIndex(1, "bar")),
+                and(matchIndex(0, "foo"), and(matchIndex(1, "baz"), matchIndex(2, "phleem")))));
+
+        // (foo!(bar),foo!(baz),foo(phleem))
+        assertEquivalentWhenCompiled(or(and(matchIndex(0, "foo"), not(matchIndex(1, "bar"))),
+                and(matchIndex(0, "foo"), not(matchIndex(1, "baz"))),
+                and(matchIndex(0, "foo"), matchIndex(1, "phleem"))));
+    }
+
+    @Test
+    public void duplicateFieldsDescendToStableStates() {
+
+        // (foo!(bar(baz)),foo!(bar(phleem)))
+        final FieldMatcher root = FieldMatchers.matcher(compile(or(
+                        and(matchIndex(0, "foo"), not(and(matchIndex(1, "bar"), matchIndex(2, "baz")))),
+                        and(matchIndex(0, "foo"), not(and(matchIndex(1, "bar"), matchIndex(2, "phleem")))))));
+        final FieldMatcher state = root.descend("foo").descend("bar");
+
+        assertThat(state, is(instanceOf(FieldTrie.AnyOfMatcher.class)));
+        assertThat(root.descend("foo").descend("bar"), is(sameInstance(state)));
+        assertThat(root.descend(FieldSymbols.symbol("foo")).descend(FieldSymbols.symbol("bar")),
+            is(sameInstance(state)));
+    }
+
+    @Test
+    public void doubleNegation() {
+        assertEquivalentWhenCompiled(not(not(or(matchIndex(0, "foo"), matchIndex(0, "bar")))));
+    }
+
+    @Test
+    public void fieldPatterns() {
+
+        // (ba*), (*), !(*)
+        assertEquivalentWhenCompiled(matchPrefix(0, "ba"));
+        assertEquivalentWhenCompiled(matchPrefix(0, ""));
+        assertEquivalentWhenCompiled(not(matchPrefix(0, "")));
+
+        // (ba*(foo),bar(phleem))
+        assertEquivalentWhenCompiled(or(and(matchPrefix(0, "ba"), matchIndex(1, "foo")),
+                and(matchIndex(0, "bar"), matchIndex(1, "phleem"))));
+
+        // (b*(foo),ba*!(bar),baz(phleem))
+        assertEquivalentWhenCompiled(or(and(matchPrefix(0, "b"), matchIndex(1, "foo")),
+                and(matchPrefix(0, "ba"), not(matchIndex(1, "bar"))),
+                and(matchIndex(0, "baz"), matchIndex(1, "phleem"))));
+
+        // !(ba*,foo(p*))
+        assertEquivalentWhenCompiled(not(or(matchPrefix(0, "ba"), and(matchIndex(0, "foo"), matchPrefix(1, "p")))));
+
+        // (*!(foo),phleem(*(bar)))
+        assertEquivalentWhenCompiled(or(and(matchPrefix(0, ""), not(matchIndex(1, "foo"))),
+                and(matchIndex(0, "phleem"), and(matchPrefix(1, ""), matchIndex(2, "bar")))));
+
+        // (b*(ba*(f*)),phleem,bar)
+        assertEquivalentWhenCompiled(or(and(matchPrefix(0, "b"), and(matchPrefix(1, "ba"), matchPrefix(2, "f"))),
+                matchIndex(0, "phleem"), matchIndex(0, "bar")));
+    }
+
+    @Test
+    public void otherShapesAreNotCompiled() {
+        final FieldPredicate wrongIndex = matchIndex(1, "bar");
+        final FieldPredicate wildcardToken = or(matchIndex(0, "foo*"), matchIndex(0, "bar"));
+        final FieldPredicate negatedMembers = or(not(matchIndex(0, "foo")), matchIndex(0, "bar"));
+        final FieldPredicate conjunction = and(matchIndex(0, "foo"), matchIndex(0, "bar"));
+
+        assertThat(compile(wrongIndex), is(sameInstance(wrongIndex)));
+        assertThat(compile(wildcardToken), is(instanceOf(FieldPredicates.MatchAnyIndexPredicate.class)));
+        assertThat(compile(negatedMembers), is(sameInstance(negatedMembers)));
+        assertThat(compile(conjunction), is(sameInstance(conjunction)));
+        assertThat(compile(alwaysTrue()), is(sameInstance(alwaysTrue())));
+    }
+
+    private static void assertEquivalentWhenCompiled(final FieldPredicate predicate) {
+        final FieldPredicate compiled = compile(predicate);
+        assertThat(compiled, is(instanceOf(FieldTrie.class)));
+
+        for (final List<String> fields : allFieldHierarchies()) {
+            assertEquals(predicate + " vs. " + compiled + " for " + fields, predicate.apply(fields),
+                compiled.apply(fields));
+            assertEquals(predicate + " vs. matcher of " + compiled + " for " + fields, predicate.apply(fields),
+                descend(FieldMatchers.matcher(compiled), fields).matches());
+            assertEquals(predicate + " vs. matcher of " + compiled + " by symbol for " + fields,
+                predicate.apply(fields), descendBySymbols(FieldMatchers.matcher(compiled), fields).matches());
+        }
+    }
+
+    static FieldMatcher descend(final FieldMatcher root, final List<String> fields) {
+        FieldMatcher matcher = root;
+        for (final String field : fields) {
+            matcher = matcher.descend(field);
+        }
+
+        return matcher;
+    }
+
+    static FieldMatcher descendBySymbols(final FieldMatcher root, final List<String> fields) {
+        FieldMatcher matcher = root;
+        for (final String field : fields) {
+            matcher = matcher.descend(FieldSymbols.symbol(field));
+        }
+
+        return matcher;
+    }
+
+    static List<List<String>> allFieldHierarchies() {
+        final List<List<String>> result = new ArrayList<>();
+        List<List<String>> previous = new ArrayList<>();
+        previous.add(new ArrayList<String>());
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            final List<List<String>> current = new ArrayList<>();
+            for (final List<String> prefix : previous) {
+                for (final String name : NAMES) {
+                    final List<String> fields = new ArrayList<>(prefix);
+                    fields.add(name);
+                    current.add(fields);
+                }
+            }
+
+            result.addAll(current);
+            previous = current;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package org.zalando.guild.api.json.fields.java.model;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * @since  17.10.2026
+ */
+public class TokenSetTest {
+
+    @Test
+    public void membership() {
+        final TokenSet tokens = TokenSet.copyOf(asList("foo", "bar", "baz", "foo"));
+
+        assertThat(tokens.size(), is(3));
+        assertThat(tokens.contains("foo"), is(true));
+        assertThat(tokens.contains(new String("bar")), is(true));
+        assertThat(tokens.contains("baz"), is(true));
+        assertThat(tokens.contains("phleem"), is(false));
+        assertThat(tokens.contains(""), is(false));
+        assertThat(tokens.contains(42), is(false));
+        assertThat(tokens.toString(), is("[foo, bar, baz]"));
+        assertThat(new ArrayList<>(tokens), is(asList("foo", "bar", "baz")));
+    }
+
+    @Test
+    public void collidingHashCodes() {
+
+        // "Aa" and "BB" have the same hash code
+        final TokenSet tokens = TokenSet.copyOf(asList("Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa"));
+
+        assertThat(tokens.contains("BB"), is(true));
+        assertThat(tokens.contains("BBAa"), is(true));
+        assertThat(tokens.contains("AaAaAa"), is(false));
+    }
+
+    @Test
+    public void equalsOtherSets() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("field" + i);
+        }
+
+        final Set<String> expected = new HashSet<>(names);
+        final TokenSet tokens = TokenSet.copyOf(names);
+
+        assertThat(tokens.equals(expected), is(true));
+        assertThat(expected.equals(tokens), is(true));
+        assertThat(tokens.hashCode(), is(expected.hashCode()));
+        for (int i = 0; i < 200; i++) {
+            assertThat(tokens.contains("field" + i), is(i < 100));
+        }
+    }
+}